@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -24,8 +25,8 @@ dependencyManagement {
 dependencies {
     implementation(libs.spring.boot.starter.web)
     implementation(libs.spring.boot.starter.data.jpa)   //transaction 사용 위해 추가
-    compileOnly(libs.lombok)
-    annotationProcessor(libs.lombok)
+    implementation(libs.spring.boot.starter.actuator)   // /actuator/prometheus 로 point.* 지표 노출
+    implementation(libs.micrometer.registry.prometheus)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
     testImplementation("org.mockito:mockito-core:5.7.0") // 동일한 버전 사용
@@ -33,9 +34,40 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
 }
 
-// about source and compilation
+// about source and compilation (virtual threads 사용을 위해 21)
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+// benchmarks (src/jmh/java) - ./gradlew jmh
+// throttle 을 뺀 테스트용 테이블(src/test)을 벤치마크에서도 사용
+sourceSets.named("jmh") {
+    compileClasspath += sourceSets["test"].output
+    runtimeClasspath += sourceSets["test"].output
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.core.get())
+    resultFormat.set("JSON")
+}
+
+// 내역 저장 방식별 힙 사용량 비교 - ./gradlew historyFootprint -Prows=10000000
+tasks.register<JavaExec>("historyFootprint") {
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.database.PointHistoryFootprint")
+    args(findProperty("rows") ?: "10000000")
+    maxHeapSize = "24g"
+    jvmArgs("-XX:+UseParallelGC")
+}
+
+// 저널 재시작 시간 측정 - ./gradlew journalRecovery -Precords=100000000 -Pusers=10000000 -Ptail=10000000
+tasks.register<JavaExec>("journalRecovery") {
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.journal.PointJournalRecovery")
+    args(findProperty("records") ?: "100000000", findProperty("users") ?: "10000000", findProperty("tail") ?: "10000000")
+    maxHeapSize = "2g"
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 내역 저장 방식별 힙 사용량 비교
+ * - boxed : PointHistoryTable 과 같은 ArrayList<PointHistory>
+ * - columnar : point.history.storage=COLUMNAR 인 PointHistoryStore (유저별 인덱스 포함)
+ * 같은 내역을 rows 건 채운 뒤 GC 후 증가한 힙 사용량을 행당 바이트로 출력합니다.
+ *
+ * 실행: ./gradlew historyFootprint -Prows=10000000 (1억 건은 -Prows=100000000, 힙 24g 이상)
+ */
+public class PointHistoryFootprint {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        List<String> modes = args.length > 2 ? List.of(args[2].split(",")) : List.of("boxed", "columnar");
+
+        for (String mode : modes) {
+            long before = usedHeap();
+            Object retained = switch (mode) {
+                case "boxed" -> fillBoxed(rows, users);
+                case "columnar" -> fillColumnar(rows, users);
+                default -> throw new IllegalArgumentException("알 수 없는 모드: " + mode);
+            };
+            long used = usedHeap() - before;
+            System.out.printf("%-8s rows=%,d users=%,d heap=%,d MB (%.1f bytes/row)%n",
+                    mode, rows, users, used >> 20, (double) used / rows);
+            // 측정이 끝날 때까지 채운 데이터가 수거되지 않도록 유지
+            Reference.reachabilityFence(retained);
+        }
+    }
+
+    private static List<PointHistory> fillBoxed(int rows, int users) {
+        List<PointHistory> table = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            table.add(new PointHistory(i + 1, 1 + (i % users), 100L, type(i), i));
+        }
+        return table;
+    }
+
+    private static PointHistoryStore fillColumnar(int rows, int users) {
+        PointHistoryStore store = new PointHistoryStore(new PointHistoryTable(), new PointMetrics(new SimpleMeterRegistry()),
+                new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+        for (int i = 0; i < rows; i++) {
+            store.insert(1 + (i % users), 100L, type(i), i);
+        }
+        return store;
+    }
+
+    private static TransactionType type(int i) {
+        return i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.engine;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 없는 잔액 엔진(BalanceEngine)의 충전/사용 처리량
+ * - 모든 코어(Threads.MAX)가 users 명 중 임의의 유저에 충전/사용합니다. (1 = 모든 스레드가 한 유저, CAS 경합이 가장 큼)
+ * - 유저는 시작 전에 모두 등록하므로, 측정하는 것은 등록된 유저의 성공 경로(탐색 + 검증 + CAS)입니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BalanceEngineBenchmark
+ * 성공 경로에서 객체를 만들지 않는지는 gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)으로 확인합니다.
+ * (./gradlew jmhJar 후 java -jar build/libs/*-jmh.jar BalanceEngineBenchmark -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class BalanceEngineBenchmark {
+
+    // 측정 중 사용이 잔액 부족으로 실패하지 않을 만큼의 시작 잔액
+    private static final long INITIAL_BALANCE = Long.MAX_VALUE / 4;
+
+    @Param({"1", "1024", "1000000"})
+    public int users;
+
+    private BalanceEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int capacity = Integer.highestOneBit(Math.max(1, users) * 2 - 1) << 1;
+        engine = new BalanceEngine(capacity, 10_000_000, 10_000_000, Long.MAX_VALUE);
+        for (long userId = 1; userId <= users; userId++) {
+            engine.register(userId, INITIAL_BALANCE, 0L);
+        }
+    }
+
+    @Benchmark
+    public long charge() {
+        return engine.apply(randomUser(), TransactionType.CHARGE, 10L, 0L);
+    }
+
+    @Benchmark
+    public long use() {
+        return engine.apply(randomUser(), TransactionType.USE, 10L, 0L);
+    }
+
+    private long randomUser() {
+        return 1 + ThreadLocalRandom.current().nextInt(users);
+    }
+}
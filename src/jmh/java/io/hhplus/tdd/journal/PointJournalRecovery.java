@@ -0,0 +1,57 @@
+package io.hhplus.tdd.journal;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 저널 재시작(복구) 시간 측정
+ * users 명에게 records 건을 고르게 기록하되, 마지막 tail 건은 스냅샷 이후에 기록하고 비정상 종료(halt)합니다.
+ * 그 뒤 저널을 다시 열어 스냅샷 로드 + tail 재생에 걸린 시간을 출력합니다. (tail=records 이면 스냅샷 없이 전체 재생)
+ *
+ * 실행: ./gradlew journalRecovery -Precords=100000000 -Pusers=10000000 -Ptail=10000000
+ * 디스크는 records * 32 bytes 이상 필요하며, 측정이 끝나면 파일을 지웁니다.
+ */
+public class PointJournalRecovery {
+
+    public static void main(String[] args) throws IOException {
+        long records = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+        long tail = args.length > 2 ? Long.parseLong(args[2]) : 10_000_000L;
+        Path directory = args.length > 3 ? Path.of(args[3]) : Files.createTempDirectory("point-journal");
+
+        PointJournalProperties properties = new PointJournalProperties(true, directory, DataSize.ofMegabytes(256),
+                Duration.ofMillis(10), Duration.ofDays(1), users);
+        try {
+            long started = System.nanoTime();
+            PointJournal journal = new PointJournal(properties);
+            for (long i = 0; i < records; i++) {
+                if (i == records - tail) {
+                    long snapshotStarted = System.nanoTime();
+                    journal.snapshot();
+                    System.out.printf("snapshot users=%,d %,d ms%n", journal.userCount(), (System.nanoTime() - snapshotStarted) / 1_000_000);
+                }
+                journal.append(1 + (i % users), i, i);
+            }
+            journal.halt();
+            System.out.printf("write records=%,d %,d ms%n", records, (System.nanoTime() - started) / 1_000_000);
+
+            started = System.nanoTime();
+            PointJournal recovered = new PointJournal(properties);
+            long elapsed = System.nanoTime() - started;
+            System.out.printf("recover users=%,d records=%,d tail=%,d %,d ms%n", recovered.userCount(), records, tail, elapsed / 1_000_000);
+            recovered.halt();
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
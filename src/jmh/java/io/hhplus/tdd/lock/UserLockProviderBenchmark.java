@@ -0,0 +1,125 @@
+package io.hhplus.tdd.lock;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 락 방식별 경합/메모리 비교
+ * - UNBOUNDED : 기존 PointService 방식 (computeIfAbsent 로 만든 락을 제거하지 않음)
+ * - STRIPED / REF_COUNTED : UserLockProvider 구현
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserLockProviderBenchmark
+ * touchAllUsers 는 users 명 모두 한 번씩 락을 잡은 뒤 남아 있는 힙 사용량과 락 개수를 TearDown 에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserLockProviderBenchmark {
+
+    @Param({"UNBOUNDED", "STRIPED", "REF_COUNTED"})
+    public String mode;
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"1024"})
+    public int stripes;
+
+    private UserLockProvider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = switch (mode) {
+            case "UNBOUNDED" -> new UnboundedUserLockProvider();
+            case "STRIPED" -> new StripedUserLockProvider(stripes);
+            case "REF_COUNTED" -> new RefCountedUserLockProvider();
+            default -> throw new IllegalArgumentException(mode);
+        };
+    }
+
+    // 전체 유저에 고르게 분산된 요청 (경합 낮음, 락 저장소 크기의 영향이 큼)
+    @Benchmark
+    @Threads(8)
+    public void uniformUsers() {
+        long userId = 1 + ThreadLocalRandom.current().nextInt(users);
+        provider.lock(userId);
+        try {
+            Blackhole.consumeCPU(64);
+        } finally {
+            provider.unlock(userId);
+        }
+    }
+
+    // 소수 hot 유저에 몰린 요청 (경합 높음)
+    @Benchmark
+    @Threads(8)
+    public void hotUsers() {
+        long userId = 1 + ThreadLocalRandom.current().nextInt(8);
+        provider.lock(userId);
+        try {
+            Blackhole.consumeCPU(64);
+        } finally {
+            provider.unlock(userId);
+        }
+    }
+
+    // 모든 유저가 한 번씩 락을 잡는 데 걸리는 시간 (메모리 사용량은 TearDown 에서 출력)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void touchAllUsers() {
+        for (long userId = 1; userId <= users; userId++) {
+            provider.lock(userId);
+            provider.unlock(userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void reportFootprint() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%n[footprint] mode=%s users=%d retainedLocks=%d heapUsed=%dMB%n",
+                mode, users, retainedLocks(), usedBytes / (1024 * 1024));
+    }
+
+    private long retainedLocks() {
+        if (provider instanceof UnboundedUserLockProvider unbounded) {
+            return unbounded.locks.size();
+        }
+        if (provider instanceof RefCountedUserLockProvider refCounted) {
+            return refCounted.size();
+        }
+        return ((StripedUserLockProvider) provider).stripeCount();
+    }
+
+    // 기존 PointService.userLocks 와 같은 방식
+    private static final class UnboundedUserLockProvider implements UserLockProvider {
+        private final ConcurrentHashMap<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+        @Override
+        public void lock(long userId) {
+            locks.computeIfAbsent(userId, k -> new ReentrantLock()).lock();
+        }
+
+        @Override
+        public boolean tryLock(long userId) {
+            return locks.computeIfAbsent(userId, k -> new ReentrantLock()).tryLock();
+        }
+
+        @Override
+        public void unlock(long userId) {
+            locks.get(userId).unlock();
+        }
+    }
+}
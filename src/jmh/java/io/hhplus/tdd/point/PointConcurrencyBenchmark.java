@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 제어 방식(PESSIMISTIC / OPTIMISTIC / LOCK_FREE)별 충전 처리량 비교
+ * - 16개 스레드가 writersPerUser 개씩 같은 유저를 나눠 가집니다. (1 = 경합 없음, 16 = 모든 스레드가 한 유저)
+ * - writeDelayMillis : 잔액 갱신(insertOrUpdate) 한 번의 고정 지연. 0 이면 서비스 자체의 오버헤드(락 vs CAS/재시도)만,
+ *   1 이상이면 느린 테이블 쓰기 동안 락을 잡고 있는 비용과 쓰기 묶음의 효과가 드러납니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PointConcurrencyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(PointConcurrencyBenchmark.THREADS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PointConcurrencyBenchmark {
+
+    static final int THREADS = 16;
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "LOCK_FREE"})
+    public PointConcurrencyMode mode;
+
+    @Param({"1", "2", "4", "16"})
+    public int writersPerUser;
+
+    @Param({"0", "1"})
+    public long writeDelayMillis;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(new NoThrottleUserPointTable(writeDelayMillis), new NoThrottlePointHistoryTable(),
+                PointHistoryStorage.COLUMNAR, mode);
+        pointService = fixture.pointService;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        long userId;
+
+        // 연속된 스레드 writersPerUser 개가 같은 유저를 쓴다.
+        @Setup(Level.Trial)
+        public void setUp(PointConcurrencyBenchmark benchmark, ThreadParams threadParams) {
+            userId = 1 + threadParams.getThreadIndex() / benchmark.writersPerUser;
+        }
+    }
+
+    @Benchmark
+    public void chargeUserPoint(Writer writer, Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.chargeUserPoint(writer.userId, 10L));
+        } catch (PointConflictException e) {
+            // 재시도 한도를 넘은 요청도 한 번의 호출로 집계
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수가 늘어날 때 유저별 내역 조회 비용 벤치마크
+ * 내역을 미리 historySize 건 채워야 하므로 throttle 을 뺀 테이블을 사용합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PointHistoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PointHistoryBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int historySize;
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"TABLE", "COLUMNAR"})
+    public PointHistoryStorage storage;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PointServiceFixture(new NoThrottleUserPointTable(), new NoThrottlePointHistoryTable(), storage);
+        pointService = fixture.pointService;
+        for (int i = 0; i < historySize; i++) {
+            long userId = 1 + (i % users);
+            fixture.pointHistoryStore.insert(userId, 100L, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    // 첫 페이지 (100건)
+    @Benchmark
+    public void firstPage(Blackhole blackhole) {
+        blackhole.consume(pointService.getPointHistories(randomUser(), null, 100));
+    }
+
+    // 유저의 전체 내역 (historySize / users 건)
+    @Benchmark
+    public void allHistories(Blackhole blackhole) {
+        blackhole.consume(pointService.getPointHistories(randomUser()));
+    }
+
+    private long randomUser() {
+        return 1 + ThreadLocalRandom.current().nextInt(users);
+    }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 서버에 동시 요청을 유지하며 처리량을 재는 부하 생성기
+ * 요청마다 가상 스레드 하나가 PATCH /point/{id}/charge 를 반복 호출하므로, 동시 요청 수(in-flight)가 concurrency 로 유지됩니다.
+ * baseUrl 에 쉼표로 여러 노드를 주면(파티션 모드) 요청마다 임의의 노드로 보냅니다. 소유 노드가 아닌 노드로 들어간 요청은 한 번 전달됩니다.
+ *
+ * 실행: ./gradlew jmhClasses
+ *      java -cp build/classes/java/jmh io.hhplus.tdd.point.PointLoadGenerator [baseUrl] [concurrency] [seconds] [users]
+ * 기본값: http://localhost:8080 10000 30 1000000
+ */
+public class PointLoadGenerator {
+
+    public static void main(String[] args) throws InterruptedException {
+        String[] baseUrls = (args.length > 0 ? args[0] : "http://localhost:8080").split(",");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int users = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        LongAdder totalLatencyNanos = new LongAdder();
+        LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long userId = 1 + ThreadLocalRandom.current().nextInt(users);
+                        String baseUrl = baseUrls[ThreadLocalRandom.current().nextInt(baseUrls.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/charge"))
+                                .header("Content-Type", "application/json")
+                                .method("PATCH", HttpRequest.BodyPublishers.ofString("100"))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            long latency = System.nanoTime() - start;
+                            if (response.statusCode() == 200) {
+                                completed.increment();
+                                totalLatencyNanos.add(latency);
+                                maxLatencyNanos.accumulate(latency);
+                            } else {
+                                failed.increment();
+                            }
+                        } catch (Exception e) {
+                            failed.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        long ok = completed.sum();
+        System.out.printf("nodes=%d concurrency=%d seconds=%d completed=%d failed=%d throughput=%.1f req/s avgLatency=%.1f ms maxLatency=%.1f ms%n",
+                baseUrls.length, concurrency, seconds, ok, failed.sum(), (double) ok / seconds,
+                ok == 0 ? 0.0 : totalLatencyNanos.sum() / (double) ok / 1_000_000,
+                maxLatencyNanos.get() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 주요 연산 벤치마크 (실제 UserPointTable/PointHistoryTable 사용)
+ * - throttle=true : 테이블의 임의 지연 포함 (운영과 같은 조건)
+ * - throttle=false : 지연을 뺀 테이블로 서비스 자체의 오버헤드만 측정
+ * - distribution : SINGLE(한 유저 경합) / UNIFORM / ZIPFIAN
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PointServiceBenchmark
+ * 검증 실패(잔액 부족 등)도 한 번의 호출로 집계합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PointServiceBenchmark {
+
+    // 1회 충전 한도만큼 채운다.
+    private static final long INITIAL_BALANCE = 10_000_000L;
+
+    @Param({"true", "false"})
+    public boolean throttle;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPFIAN"})
+    public UserIdDistribution distribution;
+
+    @Param({"1000"})
+    public int users;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+    private UserIdDistribution.Sampler sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UserPointTable userPointTable = throttle ? new UserPointTable() : new NoThrottleUserPointTable();
+        PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new NoThrottlePointHistoryTable();
+        fixture = new PointServiceFixture(userPointTable, pointHistoryTable);
+        pointService = fixture.pointService;
+        sampler = distribution.sampler(users);
+        preloadBalances();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void getUserPoint(Blackhole blackhole) {
+        blackhole.consume(pointService.getUserPoint(sampler.next()));
+    }
+
+    @Benchmark
+    public void getPointHistories(Blackhole blackhole) {
+        blackhole.consume(pointService.getPointHistories(sampler.next(), null, 100));
+    }
+
+    @Benchmark
+    public void chargeUserPoint(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.chargeUserPoint(sampler.next(), 10L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void useUserPoint(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.useUserPoint(sampler.next(), 10L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    // 유저마다 잔액을 채워 두고 캐시를 데운다. (throttle 이 있으면 병렬로 채움)
+    private void preloadBalances() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(throttle ? 64 : 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(users);
+            for (long userId = 1; userId <= users; userId++) {
+                long id = userId;
+                futures.add(executorService.submit(() -> pointService.chargeUserPoint(id, INITIAL_BALANCE)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            fixture.pointHistoryWriter.flush();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.admission.AdmissionProperties;
+import io.hhplus.tdd.admission.UserAdmission;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.PointHistoryWriterProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.engine.BalanceEngineProperties;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.hhplus.tdd.lock.InstrumentedUserLockProvider;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.partition.PartitionProperties;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크용 PointService 조립 (스프링 컨텍스트 없이 기본 설정값으로 구성)
+ * 계측 비용도 운영과 같게 포함되도록 PointMetrics 는 SimpleMeterRegistry 로 등록합니다.
+ */
+public final class PointServiceFixture implements AutoCloseable {
+
+    public final UserPointCache userPointCache;
+    public final PointHistoryStore pointHistoryStore;
+    public final PointHistoryWriter pointHistoryWriter;
+    public final PointService pointService;
+    private final LockFreePointExecutor lockFreePointExecutor;
+    private final ExecutorService pointExecutor;
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        this(userPointTable, pointHistoryTable, PointHistoryStorage.TABLE);
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointHistoryStorage historyStorage) {
+        this(userPointTable, pointHistoryTable, historyStorage, PointConcurrencyMode.PESSIMISTIC);
+    }
+
+    public PointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointHistoryStorage historyStorage,
+                               PointConcurrencyMode concurrencyMode) {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        this.userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(100_000, Duration.ofMinutes(10)), pointMetrics);
+        this.pointHistoryStore = new PointHistoryStore(pointHistoryTable, pointMetrics, new PointHistoryStoreProperties(historyStorage));
+        this.pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(10_000, 100, Duration.ofMillis(10)));
+        this.pointExecutor = Executors.newFixedThreadPool(64);
+
+        UserValidate userValidate = new UserValidate(userPointCache);
+        PointRuleProperties ruleProperties = new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE);
+        PointRulePipeline pointRulePipeline = new PointRulePipeline(userPointCache, PointRulePipeline.defaultRules(ruleProperties));
+        UserLockProvider userLockProvider = new InstrumentedUserLockProvider(new RefCountedUserLockProvider(), pointMetrics);
+        PointCommandCoalescer pointCommandCoalescer = new PointCommandCoalescer(userPointCache, pointHistoryWriter, pointRulePipeline,
+                userLockProvider, new PointCoalescingProperties(false, 100));
+        PointConcurrencyProperties concurrencyProperties = new PointConcurrencyProperties(concurrencyMode, 10, Duration.ofNanos(10_000), Duration.ofMillis(1));
+        OptimisticPointExecutor optimisticPointExecutor = new OptimisticPointExecutor(userPointCache, pointHistoryWriter, pointRulePipeline,
+                userLockProvider, pointMetrics, concurrencyProperties);
+        this.lockFreePointExecutor = new LockFreePointExecutor(userPointCache, pointHistoryWriter, pointRulePipeline, ruleProperties,
+                concurrencyProperties, new BalanceEngineProperties(1 << 20, Duration.ofMillis(100)),
+                new PointJournalProperties(false, Path.of("data/journal"), DataSize.ofMegabytes(256), Duration.ofMillis(10), Duration.ofMinutes(5), 1_000_000),
+                new PartitionProperties(false, "", null, null, 160, Duration.ofSeconds(5), 2, Duration.ofSeconds(5), ""));
+        this.pointService = new PointService(userPointCache, pointHistoryStore, pointHistoryWriter, userValidate, pointRulePipeline,
+                userLockProvider, pointCommandCoalescer, optimisticPointExecutor, lockFreePointExecutor,
+                new UserAdmission(new AdmissionProperties(false, 32, 1_000, 0, 10), pointMetrics), pointExecutor, new PointAsyncProperties(64, 1_000, Duration.ofSeconds(5)), pointMetrics);
+        pointHistoryWriter.start();
+        lockFreePointExecutor.start();
+    }
+
+    @Override
+    public void close() {
+        lockFreePointExecutor.stop();
+        pointHistoryWriter.stop();
+        pointExecutor.shutdown();
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 요청의 userId 분포
+ * - SINGLE : 모든 요청이 한 유저 (락 경합 최대)
+ * - UNIFORM : 1..users 에 고르게 분산
+ * - ZIPFIAN : 소수 유저에 요청이 몰리는 분포 (s = 1.0)
+ */
+public enum UserIdDistribution {
+    SINGLE, UNIFORM, ZIPFIAN;
+
+    public Sampler sampler(int users) {
+        return switch (this) {
+            case SINGLE -> () -> 1L;
+            case UNIFORM -> () -> 1L + ThreadLocalRandom.current().nextInt(users);
+            case ZIPFIAN -> new ZipfianSampler(users, 1.0);
+        };
+    }
+
+    public interface Sampler {
+        long next();
+    }
+
+    // 누적 분포를 미리 계산하고 이진 탐색으로 뽑는다.
+    private static final class ZipfianSampler implements Sampler {
+        private final double[] cumulative;
+
+        ZipfianSampler(int users, double exponent) {
+            cumulative = new double[users];
+            double sum = 0;
+            for (int rank = 1; rank <= users; rank++) {
+                sum += 1.0 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < users; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        public long next() {
+            double value = ThreadLocalRandom.current().nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low + 1L;
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.engine.BalanceEngineFullException;
+import io.hhplus.tdd.partition.PartitionAccessDeniedException;
+import io.hhplus.tdd.partition.PartitionUnavailableException;
+import io.hhplus.tdd.partition.RemotePointException;
+import io.hhplus.tdd.point.IdempotencyKeyInProgressException;
+import io.hhplus.tdd.point.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.PointAsyncTimeoutException;
+import io.hhplus.tdd.point.PointConflictException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     @ExceptionHandler(value = Exception.class)
@@ -22,4 +38,80 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         ErrorResponse errorResponse = new ErrorResponse(errorCode, errorMessage);
         return ResponseEntity.status(400).body(errorResponse);
     }
+
+    //낙관적 모드에서 같은 유저의 다른 요청과 계속 충돌한 경우
+    @ExceptionHandler(value = PointConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePointConflictException(PointConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", "다른 요청과 충돌했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    //같은 Idempotency-Key 로 다른 요청을 보낸 경우
+    @ExceptionHandler(value = IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
+    //같은 Idempotency-Key 의 앞선 요청이 아직 끝나지 않은 경우
+    @ExceptionHandler(value = IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    //한 유저(또는 전체)의 요청이 한도를 넘어 기다리지 않고 바로 거절한 경우
+    @ExceptionHandler(value = AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(AdmissionRejectedException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(429);
+        if (e.retryAfterMillis() > 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf((e.retryAfterMillis() + 999) / 1000));
+        }
+        return builder.body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    //파티션 모드에서 소유 노드가 오류로 응답한 경우 - 상태 코드와 본문을 그대로 전달
+    @ExceptionHandler(value = RemotePointException.class)
+    public ResponseEntity<ErrorResponse> handleRemotePointException(RemotePointException e) {
+        return ResponseEntity.status(e.status()).body(e.error());
+    }
+
+    //파티션 모드에서 소유 노드에 전달하거나 유저를 넘겨받지 못한 경우
+    @ExceptionHandler(value = PartitionUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePartitionUnavailableException(PartitionUnavailableException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    //파티션 내부 API 를 내부 토큰 없이 호출한 경우
+    @ExceptionHandler(value = PartitionAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handlePartitionAccessDeniedException(PartitionAccessDeniedException e) {
+        return ResponseEntity.status(403).body(new ErrorResponse("403", e.getMessage()));
+    }
+
+    //LOCK_FREE 모드에서 잔액 엔진에 새 유저를 등록할 칸이 없는 경우
+    @ExceptionHandler(value = BalanceEngineFullException.class)
+    public ResponseEntity<ErrorResponse> handleBalanceEngineFullException(BalanceEngineFullException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    //비동기 실행기가 가득 차서 작업을 받을 수 없는 경우
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    //비동기 충전/사용이 point.async.timeout 안에 끝나지 않았지만 이미 실행 중인 경우 - 다시 요청하면 두 번 반영될 수 있음
+    @ExceptionHandler(value = PointAsyncTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handlePointAsyncTimeoutException(PointAsyncTimeoutException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    //비동기 작업이 point.async.timeout 안에 끝나지 않은 경우 (충전/사용은 실행하지 않은 경우만)
+    @ExceptionHandler(value = TimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleTimeoutException(TimeoutException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청 처리 시간이 초과되었습니다."));
+    }
+
+    //비동기 요청이 spring.mvc.async.request-timeout 안에 끝나지 않은 경우
+    @Override
+    protected ResponseEntity<Object> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청 처리 시간이 초과되었습니다."));
+    }
 }
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 요청 수락(admission) 설정
+ * - enabled : 사용 여부 (기본 꺼짐)
+ * - maxWaitersPerUser : 한 유저에 대해 처리 중인 요청 외에 기다릴 수 있는 요청 수 (넘으면 429)
+ * - maxInFlight : 전체 유저 합계로 동시에 처리/대기 중일 수 있는 요청 수 (넘으면 429)
+ * - ratePerSecond : 유저별 초당 요청 수 한도 (0 이면 제한 없음)
+ * - burst : ratePerSecond 를 넘어 한 번에 몰려도 받아 주는 요청 수
+ */
+@ConfigurationProperties("point.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("32") int maxWaitersPerUser,
+        @DefaultValue("1000") int maxInFlight,
+        @DefaultValue("0") double ratePerSecond,
+        @DefaultValue("10") int burst
+) {
+
+    public AdmissionProperties {
+        if (maxWaitersPerUser < 0) {
+            throw new IllegalArgumentException("point.admission.max-waiters-per-user 는 0 이상이어야 합니다.");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("point.admission.max-in-flight 는 0보다 커야 합니다.");
+        }
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException("point.admission.rate-per-second 는 0 이상이어야 합니다.");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("point.admission.burst 는 0보다 커야 합니다.");
+        }
+    }
+}
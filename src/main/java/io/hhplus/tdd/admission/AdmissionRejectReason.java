@@ -0,0 +1,13 @@
+package io.hhplus.tdd.admission;
+
+/**
+ * 충전/사용 요청을 받지 않은 사유
+ */
+public enum AdmissionRejectReason {
+    // 같은 유저의 요청이 이미 최대 대기 수만큼 기다리는 중
+    USER_WAITERS_EXCEEDED,
+    // 전체 처리 중인 요청 수가 한도에 도달
+    IN_FLIGHT_EXCEEDED,
+    // 유저별 초당 요청 수 한도 초과
+    RATE_LIMITED
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.admission;
+
+/**
+ * 요청을 기다리게 하지 않고 바로 거절한 경우 (429)
+ * retryAfterMillis 는 다시 시도해도 되는 최소 대기 시간이며, 알 수 없으면 0 입니다.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final AdmissionRejectReason reason;
+    private final long retryAfterMillis;
+
+    public AdmissionRejectedException(AdmissionRejectReason reason, String message, long retryAfterMillis) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public AdmissionRejectReason reason() {
+        return reason;
+    }
+
+    public long retryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
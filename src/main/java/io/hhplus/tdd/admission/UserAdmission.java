@@ -0,0 +1,163 @@
+package io.hhplus.tdd.admission;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 충전/사용 요청 수락(admission) 제어
+ * - 유저 락 앞에서 요청 수를 세고, 한도를 넘으면 기다리게 하지 않고 AdmissionRejectedException(429)으로 바로 거절합니다.
+ *   한 유저에 요청이 몰려도 락 앞에 쌓이는 스레드 수가 제한되므로, 다른 유저의 요청이 처리할 스레드를 잃지 않습니다.
+ * - 전체 한도(maxInFlight)를 먼저 확인한 뒤, 유저별 한도(처리 중 1 + maxWaitersPerUser)와 초당 요청 수를 확인합니다.
+ * - 초당 요청 수는 유저별 token bucket 으로 제한합니다. (GCRA: 다음 요청이 허용되는 이론상 시각 하나만 저장)
+ * - acquire 와 release 는 lock/unlock 처럼 try/finally 로 짝을 맞춰 호출합니다.
+ * - 유저별 상태는 처리 중인 요청이 없고 bucket 이 다시 가득 찼으면 제거합니다.
+ *   release 시점에 제거하고, 그때 bucket 이 차는 중이라 남은 유저는 전용 스레드가 주기적으로 정리합니다. (요청 스레드는 맵을 훑지 않음)
+ */
+@Component
+public class UserAdmission implements SmartLifecycle {
+
+    // 남아 있는 유저별 상태를 정리하는 주기
+    private static final long SWEEP_INTERVAL_MILLIS = 1_000L;
+
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final int maxActivePerUser;
+    private final int maxInFlight;
+    private final boolean rateLimited;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<Long, UserState> users = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService sweeper;
+
+    public UserAdmission(AdmissionProperties properties, PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+        this.enabled = properties.enabled();
+        this.maxActivePerUser = properties.maxWaitersPerUser() + 1;
+        this.maxInFlight = properties.maxInFlight();
+        this.rateLimited = properties.ratePerSecond() > 0;
+        this.intervalNanos = rateLimited ? (long) (1_000_000_000L / properties.ratePerSecond()) : 0L;
+        this.toleranceNanos = intervalNanos * (properties.burst() - 1);
+    }
+
+    // 한도 안이면 요청을 세고, 넘으면 바로 거절
+    public void acquire(long userId) {
+        if (!enabled) {
+            return;
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxInFlight) {
+                throw reject(AdmissionRejectReason.IN_FLIGHT_EXCEEDED, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 0L);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        try {
+            long now = System.nanoTime();
+            // compute 안에서 던진 예외는 그대로 전달되고 맵은 바뀌지 않는다.
+            users.compute(userId, (k, v) -> {
+                UserState state = v == null ? new UserState(now) : v;
+                if (state.active >= maxActivePerUser) {
+                    throw reject(AdmissionRejectReason.USER_WAITERS_EXCEEDED, "같은 사용자의 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 0L);
+                }
+                if (rateLimited) {
+                    long allowedAt = state.allowedAt - now > 0 ? state.allowedAt : now;
+                    long wait = allowedAt - now - toleranceNanos;
+                    if (wait > 0) {
+                        throw reject(AdmissionRejectReason.RATE_LIMITED, "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", Math.max(1L, wait / 1_000_000L));
+                    }
+                    state.allowedAt = allowedAt + intervalNanos;
+                }
+                state.active++;
+                return state;
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public void release(long userId) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        users.computeIfPresent(userId, (k, v) -> --v.active == 0 && v.isFull(now) ? null : v);
+        inFlight.decrementAndGet();
+    }
+
+    // 현재 처리/대기 중인 요청 수
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    // 상태를 들고 있는 유저 수
+    public int trackedUsers() {
+        return users.size();
+    }
+
+    private AdmissionRejectedException reject(AdmissionRejectReason reason, String message, long retryAfterMillis) {
+        pointMetrics.recordAdmissionRejected(reason);
+        return new AdmissionRejectedException(reason, message, retryAfterMillis);
+    }
+
+    // 초당 요청 수를 제한할 때만 release 뒤에 남는 유저가 생기므로 그때만 정리 스레드를 띄운다.
+    @Override
+    public synchronized void start() {
+        if (!enabled || !rateLimited || sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-admission-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return sweeper != null;
+    }
+
+    // 요청이 끝난 뒤에도 bucket 이 차는 중이라 남아 있던 유저 정리 (정리 스레드에서 호출)
+    void sweep() {
+        long now = System.nanoTime();
+        for (Long userId : users.keySet()) {
+            users.computeIfPresent(userId, (k, v) -> v.active == 0 && v.isFull(now) ? null : v);
+        }
+    }
+
+    private static final class UserState {
+        // 처리 중 + 대기 중인 요청 수
+        private int active;
+        // 다음 요청이 bucket 을 하나도 쓰지 않고 허용되는 시각 (이 시각이 지났으면 bucket 이 가득 찬 상태)
+        private long allowedAt;
+
+        UserState(long now) {
+            this.allowedAt = now;
+        }
+
+        boolean isFull(long now) {
+            return allowedAt - now <= 0;
+        }
+    }
+}
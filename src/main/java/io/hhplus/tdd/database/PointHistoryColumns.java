@@ -0,0 +1,155 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PointHistory 를 객체 없이 primitive 컬럼으로 보관하는 저장 공간
+ * - id, userId, amount, updateMillis 는 long, type 은 byte 컬럼으로 행당 33바이트를 사용합니다. (PointHistory 객체는 조회 결과를 만들 때만 생성)
+ *   type 칸의 최상위 비트는 다른 노드에서 넘겨받은 행인지, 그다음 비트는 다른 노드로 넘겨준 유저의 행(조회에서 제외)인지 표시합니다.
+ * - 행은 추가만 되며(넘겨준 행도 표시만 하고 지우지 않음), 추가할 때 받은 행 번호로 읽습니다.
+ * - 직접 발급하는 id 는 1부터 추가 순서대로 증가하고, 넘겨받은 행의 id 보다 항상 큽니다.
+ * - 컬럼은 고정 크기 세그먼트 단위로 늘어나므로 커질 때 기존 데이터를 복사하지 않습니다.
+ * - 읽는 쪽은 행 번호를 넘겨받은 시점(유저별 인덱스의 락)을 통해 쓰기 결과를 보게 됩니다.
+ */
+final class PointHistoryColumns {
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int IMPORTED = 0x80;
+    private static final int DROPPED = 0x40;
+    private static final int TYPE_MASK = 0x3F;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile Segment[] segments = new Segment[0];
+    private int segmentCount;
+    private int size;
+    private long nextId = 1L;
+
+    // 주어진 id 로 행 추가
+    int append(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            return appendRow(id, userId, amount, type.ordinal(), updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // id 를 발급해 행 추가 (id 는 추가 순서대로 증가)
+    int appendWithNewId(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            return appendRow(nextId, userId, amount, type.ordinal(), updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 넘겨받은 내역을 연속된 행으로 추가하고 첫 행 번호를 반환 (ids 가 null 이면 내역의 id 를 그대로 사용)
+    int appendImported(List<PointHistory> histories, long[] ids) {
+        appendLock.lock();
+        try {
+            int first = size;
+            for (int i = 0; i < histories.size(); i++) {
+                PointHistory history = histories.get(i);
+                appendRow(ids == null ? history.id() : ids[i], history.userId(), history.amount(),
+                        history.type().ordinal() | IMPORTED, history.updateMillis());
+            }
+            return first;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    long id(int row) {
+        return segment(row).ids[row & SEGMENT_MASK];
+    }
+
+    long amount(int row) {
+        return segment(row).amounts[row & SEGMENT_MASK];
+    }
+
+    TransactionType type(int row) {
+        return TYPES[segment(row).types[row & SEGMENT_MASK] & TYPE_MASK];
+    }
+
+    boolean isImported(int row) {
+        return (segment(row).types[row & SEGMENT_MASK] & IMPORTED) != 0;
+    }
+
+    boolean isDropped(int row) {
+        return (segment(row).types[row & SEGMENT_MASK] & DROPPED) != 0;
+    }
+
+    // 다른 노드로 넘겨준 행으로 표시 (같은 유저의 쓰기가 없을 때 호출)
+    void markDropped(int row) {
+        Segment segment = segment(row);
+        int offset = row & SEGMENT_MASK;
+        segment.types[offset] = (byte) (segment.types[offset] | DROPPED);
+    }
+
+    long updateMillis(int row) {
+        return segment(row).updateMillis[row & SEGMENT_MASK];
+    }
+
+    PointHistory materialize(int row) {
+        Segment segment = segment(row);
+        int offset = row & SEGMENT_MASK;
+        return new PointHistory(segment.ids[offset], segment.userIds[offset], segment.amounts[offset],
+                TYPES[segment.types[offset] & TYPE_MASK], segment.updateMillis[offset]);
+    }
+
+    int size() {
+        appendLock.lock();
+        try {
+            return size;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private int appendRow(long id, long userId, long amount, int type, long updateMillis) {
+        int row = size;
+        if (row == Integer.MAX_VALUE) {
+            throw new IllegalStateException("포인트 내역 저장 한도를 초과했습니다.");
+        }
+        int segmentIndex = row >>> SEGMENT_SHIFT;
+        Segment[] current = segments;
+        if (segmentIndex == segmentCount) {
+            if (segmentCount == current.length) {
+                current = Arrays.copyOf(current, Math.max(4, current.length * 2));
+            }
+            current[segmentCount++] = new Segment();
+            segments = current;
+        }
+        Segment segment = current[segmentIndex];
+        int offset = row & SEGMENT_MASK;
+        segment.ids[offset] = id;
+        segment.userIds[offset] = userId;
+        segment.amounts[offset] = amount;
+        segment.types[offset] = (byte) type;
+        segment.updateMillis[offset] = updateMillis;
+        size = row + 1;
+        nextId = Math.max(nextId, id + 1);
+        return row;
+    }
+
+    private Segment segment(int row) {
+        return segments[row >>> SEGMENT_SHIFT];
+    }
+
+    private static final class Segment {
+        private final long[] ids = new long[SEGMENT_SIZE];
+        private final long[] userIds = new long[SEGMENT_SIZE];
+        private final long[] amounts = new long[SEGMENT_SIZE];
+        private final byte[] types = new byte[SEGMENT_SIZE];
+        private final long[] updateMillis = new long[SEGMENT_SIZE];
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 포인트 내역 저장 방식
+ * - TABLE : PointHistoryTable 에 기록하고(id 도 테이블이 발급), 조회용 인덱스는 컬럼 저장소에 둡니다.
+ * - COLUMNAR : PointHistoryTable 을 거치지 않고 컬럼 저장소에만 기록합니다. id 는 저장소가 발급합니다.
+ */
+public enum PointHistoryStorage {
+    TABLE,
+    COLUMNAR
+}
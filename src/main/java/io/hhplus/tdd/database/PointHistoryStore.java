@@ -0,0 +1,386 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistorySummary;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 내역 저장소 (유저별 내역 인덱스 포함)
+ * - 테이블의 selectAllByUserId 는 전체 내역을 훑기 때문에, 조회는 유저별 인덱스에서만 처리합니다.
+ * - 내역은 PointHistoryColumns 에 primitive 컬럼으로 보관하고, 유저별 인덱스는 행 번호(int)만 가집니다.
+ *   PointHistory 객체는 조회 결과를 반환할 때만 만듭니다.
+ * - 유저별 내역은 id 오름차순(기록 순서)으로 유지되어 cursor 기반 페이지 조회가 O(log n + 페이지 크기)입니다.
+ * - 유저별, 전체 내역에 시각 순 인덱스(PointHistoryTimeIndex)를 함께 두어 기간 조회는 O(log n + 결과 수), 기간 합계는 O(log n)입니다.
+ *   전체 인덱스는 쓰기끼리만 락으로 직렬화하고, 조회는 락 없이 합니다.
+ * - 다른 노드로 넘겨준 유저의 행은 지우지 않고 표시만 해서 전체 조회, 합계, 내보내기에서 뺍니다. (넘겨주기를 다시 요청받으면 같은 내역을 돌려줌)
+ * - point.history.storage=COLUMNAR 이면 PointHistoryTable 에 기록하지 않고 id 를 직접 발급합니다.
+ */
+@Component
+public class PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointMetrics pointMetrics;
+    private final PointHistoryStorage storage;
+    private final PointHistoryColumns columns = new PointHistoryColumns();
+    private final ConcurrentHashMap<Long, UserHistory> histories = new ConcurrentHashMap<>();
+    private final ReentrantLock timeIndexWriteLock = new ReentrantLock();
+    private final PointHistoryTimeIndex timeIndex = new PointHistoryTimeIndex(columns);
+    // 넘겨준 행만 모은 시각 인덱스 (전체 합계에서 뺀다)
+    private final PointHistoryTimeIndex droppedIndex = new PointHistoryTimeIndex(columns);
+    private volatile AppendListener appendListener;
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, PointMetrics pointMetrics, PointHistoryStoreProperties properties) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointMetrics = pointMetrics;
+        this.storage = properties.storage();
+    }
+
+    // 내역을 기록한 뒤 유저별 인덱스에 추가
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory;
+        int row;
+        if (storage == PointHistoryStorage.TABLE) {
+            long start = System.nanoTime();
+            pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+            pointMetrics.recordTableCall(PointMetrics.TableCall.POINT_HISTORY_INSERT, System.nanoTime() - start);
+            row = columns.append(pointHistory.id(), userId, amount, type, updateMillis);
+        } else {
+            row = columns.appendWithNewId(userId, amount, type, updateMillis);
+            pointHistory = columns.materialize(row);
+        }
+        userHistory(userId).append(row);
+        timeIndexWriteLock.lock();
+        try {
+            timeIndex.add(row);
+        } finally {
+            timeIndexWriteLock.unlock();
+        }
+        AppendListener listener = appendListener;
+        if (listener != null) {
+            listener.appended(row, pointHistory);
+        }
+        return pointHistory;
+    }
+
+    /*
+     * 유저의 내역을 다른 노드에서 넘겨받은 내역으로 바꾼다. (파티션 유저 이동용)
+     * - 시각은 그대로 두고, COLUMNAR 는 id 도 그대로 둔다. (이후 발급하는 id 는 넘겨받은 id 보다 큼)
+     *   TABLE 은 이 노드의 테이블에 기록하므로 id 를 테이블이 새로 발급한다.
+     * - 이 노드에 남아 있던 내역(넘겨준 뒤 다시 넘겨받는 경우)은 넘겨준 행으로 표시해 조회에서 뺀다.
+     * - 새로 생긴 변경이 아니므로 append listener 에는 행 범위만 알리고 내역으로 내보내지 않는다.
+     * - 행을 모두 추가한 뒤 유저별 인덱스를 한 번에 바꾸므로, 중간에 실패하면 이전 내역이 그대로 보인다.
+     */
+    public void replaceHistories(long userId, List<PointHistory> imported) {
+        if (imported.isEmpty()) {
+            UserHistory previous = histories.remove(userId);
+            if (previous != null) {
+                addDropped(previous.drop());
+            }
+            return;
+        }
+        long[] ids = null;
+        if (storage == PointHistoryStorage.TABLE) {
+            ids = new long[imported.size()];
+            for (int i = 0; i < ids.length; i++) {
+                PointHistory history = imported.get(i);
+                long start = System.nanoTime();
+                ids[i] = pointHistoryTable.insert(userId, history.amount(), history.type(), history.updateMillis()).id();
+                pointMetrics.recordTableCall(PointMetrics.TableCall.POINT_HISTORY_INSERT, System.nanoTime() - start);
+            }
+        }
+        int from = columns.appendImported(imported, ids);
+        int to = from + imported.size();
+        UserHistory replaced = new UserHistory();
+        replaced.appendAll(from, to);
+        UserHistory previous = histories.put(userId, replaced);
+        int[] dropped = previous == null ? new int[0] : previous.drop();
+        timeIndexWriteLock.lock();
+        try {
+            timeIndex.addAll(from, to);
+            droppedIndex.addAll(dropped);
+        } finally {
+            timeIndexWriteLock.unlock();
+        }
+        AppendListener listener = appendListener;
+        if (listener != null) {
+            listener.imported(from, to);
+        }
+    }
+
+    // 다른 노드로 넘겨준 유저의 내역을 조회에서 뺀다. (유저별 내역은 다시 넘겨줄 수 있도록 남겨 둠)
+    public void dropHistories(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory != null) {
+            addDropped(userHistory.drop());
+        }
+    }
+
+    // 내역이 추가될 때마다 호출할 리스너 등록 (변경 피드용, 하나만 등록)
+    public void setAppendListener(AppendListener appendListener) {
+        this.appendListener = appendListener;
+    }
+
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        return userHistory == null ? List.of() : userHistory.all();
+    }
+
+    // cursor(마지막으로 받은 내역 id) 이후의 내역을 최대 limit 개 조회
+    public PointHistoryPage selectByUserId(long userId, long cursor, int limit) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        return userHistory.page(cursor, limit);
+    }
+
+    // 유저의 전체 내역 합계와 최근 내역 recentLimit 개 (PointHistory 객체는 최근 내역만 만든다)
+    public PointHistorySummary summarize(long userId, int recentLimit) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return PointHistorySummary.EMPTY;
+        }
+        return userHistory.summary(recentLimit);
+    }
+
+    // 유저의 [fromMillis, toMillis) 기간 내역을 (updateMillis, id) 순으로 최대 limit 개 조회 - (fromMillis, cursor) 이후부터, type 이 null 이면 전체 종류
+    public PointHistoryPage selectByUserIdAndTime(long userId, long fromMillis, long toMillis, TransactionType type, long cursor, int limit) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        return userHistory.timePage(fromMillis, toMillis, type, cursor, limit);
+    }
+
+    // 유저의 [fromMillis, toMillis) 기간 충전/사용 건수와 합계 (PointHistory 객체를 만들지 않음)
+    public PointHistoryTotals totalsByUserId(long userId, long fromMillis, long toMillis) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return new PointHistoryTotals(0, 0L, 0, 0L);
+        }
+        return userHistory.totals(fromMillis, toMillis);
+    }
+
+    // 전체 유저의 [fromMillis, toMillis) 기간 내역 (selectByUserIdAndTime 과 같은 순서와 cursor)
+    public PointHistoryPage selectByTime(long fromMillis, long toMillis, TransactionType type, long cursor, int limit) {
+        return timeIndex.select(fromMillis, cursor, toMillis, type, limit);
+    }
+
+    // 전체 유저의 [fromMillis, toMillis) 기간 충전/사용 건수와 합계 (넘겨준 행 제외)
+    public PointHistoryTotals totals(long fromMillis, long toMillis) {
+        PointHistoryTotals all = timeIndex.totals(fromMillis, toMillis);
+        PointHistoryTotals dropped = droppedIndex.totals(fromMillis, toMillis);
+        return new PointHistoryTotals(all.chargeCount() - dropped.chargeCount(), all.totalCharged() - dropped.totalCharged(),
+                all.useCount() - dropped.useCount(), all.totalUsed() - dropped.totalUsed());
+    }
+
+    // 저장 순서(행 번호)로 [from, to) 범위의 내역 조회 (to 는 size() 이하, 전체 내보내기용, 넘겨준 행 제외)
+    public List<PointHistory> selectRows(int from, int to) {
+        List<PointHistory> result = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            if (!columns.isDropped(row)) {
+                result.add(columns.materialize(row));
+            }
+        }
+        return result;
+    }
+
+    // selectRows 와 같지만 넘겨받은 행은 뺀다. (변경 피드용)
+    public List<PointHistory> selectAppendedRows(int from, int to) {
+        List<PointHistory> result = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            if (!columns.isImported(row)) {
+                result.add(columns.materialize(row));
+            }
+        }
+        return result;
+    }
+
+    // 저장된 전체 내역 수
+    public int size() {
+        return columns.size();
+    }
+
+    // 넘겨준 유저에게 다시 기록하면(구성이 되돌아간 경우) 넘겨준 내역은 두고 새로 시작한다.
+    private UserHistory userHistory(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null || userHistory.isDropped()) {
+            userHistory = histories.compute(userId, (k, current) -> current == null || current.isDropped() ? new UserHistory() : current);
+        }
+        return userHistory;
+    }
+
+    private void addDropped(int[] rows) {
+        if (rows.length == 0) {
+            return;
+        }
+        timeIndexWriteLock.lock();
+        try {
+            droppedIndex.addAll(rows);
+        } finally {
+            timeIndexWriteLock.unlock();
+        }
+    }
+
+    // 내역을 기록한 스레드에서 행 번호와 함께 호출된다. 여러 스레드가 기록하면 행 번호 순서와 호출 순서가 다를 수 있다.
+    public interface AppendListener {
+        // 새로 기록된 내역
+        void appended(int row, PointHistory pointHistory);
+
+        // 다른 노드에서 넘겨받아 채운 행 [fromRow, toRow)
+        void imported(int fromRow, int toRow);
+    }
+
+    private final class UserHistory {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private int[] rows = new int[4];
+        private int size;
+        private final PointHistoryTimeIndex timeIndex = new PointHistoryTimeIndex(columns);
+        private volatile boolean dropped;
+
+        void append(int row) {
+            lock.writeLock().lock();
+            try {
+                addRow(row);
+                timeIndex.add(row);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // [from, to) 행을 한 번에 추가 (다른 조회는 전부 또는 아무것도 보지 않음)
+        void appendAll(int from, int to) {
+            lock.writeLock().lock();
+            try {
+                for (int row = from; row < to; row++) {
+                    addRow(row);
+                }
+                timeIndex.addAll(from, to);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean isDropped() {
+            return dropped;
+        }
+
+        // 모든 행을 넘겨준 행으로 표시하고 그 행 번호를 반환 (이미 표시했으면 빈 배열)
+        int[] drop() {
+            lock.writeLock().lock();
+            try {
+                if (dropped) {
+                    return new int[0];
+                }
+                dropped = true;
+                for (int i = 0; i < size; i++) {
+                    columns.markDropped(rows[i]);
+                }
+                return Arrays.copyOf(rows, size);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void addRow(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size + (size >> 1));
+            }
+            // 대부분 마지막에 붙지만, 순서가 뒤바뀌어 들어와도 id 순서를 유지한다.
+            long id = columns.id(row);
+            int index = size;
+            while (index > 0 && columns.id(rows[index - 1]) > id) {
+                index--;
+            }
+            System.arraycopy(rows, index, rows, index + 1, size - index);
+            rows[index] = row;
+            size++;
+        }
+
+        List<PointHistory> all() {
+            lock.readLock().lock();
+            try {
+                return materialize(0, size);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        PointHistoryPage page(long cursor, int limit) {
+            lock.readLock().lock();
+            try {
+                int from = firstIndexAfter(cursor);
+                int to = (int) Math.min((long) from + limit, size);
+                Long nextCursor = to < size ? columns.id(rows[to - 1]) : null;
+                return new PointHistoryPage(materialize(from, to), nextCursor);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        PointHistorySummary summary(int recentLimit) {
+            lock.readLock().lock();
+            try {
+                // 합계와 마지막 시각은 시각 인덱스에서 읽고, 내역은 최근 것만 만든다.
+                PointHistoryTotals totals = timeIndex.totals(Long.MIN_VALUE, Long.MAX_VALUE);
+                List<PointHistory> recent = materialize(Math.max(0, size - recentLimit), size);
+                return new PointHistorySummary(size, totals.totalCharged(), totals.totalUsed(), timeIndex.lastMillis(), recent);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        PointHistoryPage timePage(long fromMillis, long toMillis, TransactionType type, long cursor, int limit) {
+            lock.readLock().lock();
+            try {
+                return timeIndex.select(fromMillis, cursor, toMillis, type, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        PointHistoryTotals totals(long fromMillis, long toMillis) {
+            lock.readLock().lock();
+            try {
+                return timeIndex.totals(fromMillis, toMillis);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<PointHistory> materialize(int from, int to) {
+            List<PointHistory> result = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                result.add(columns.materialize(rows[i]));
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        // id > cursor 인 첫 위치 (이진 탐색)
+        private int firstIndexAfter(long cursor) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (columns.id(rows[mid]) <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PointHistoryStore 설정
+ * - storage : 내역 저장 방식 (TABLE, COLUMNAR)
+ */
+@ConfigurationProperties("point.history")
+public record PointHistoryStoreProperties(
+        @DefaultValue("TABLE") PointHistoryStorage storage
+) {
+
+    public PointHistoryStoreProperties {
+        if (storage == null) {
+            throw new IllegalArgumentException("point.history.storage 를 지정해야 합니다.");
+        }
+    }
+}
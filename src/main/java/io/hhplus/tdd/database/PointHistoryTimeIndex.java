@@ -0,0 +1,341 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 포인트 내역의 시각(updateMillis) 순 인덱스
+ * - 종류(충전/사용)별로 (updateMillis, id) 오름차순 행 번호만 가집니다. 시각, id, 금액은 PointHistoryColumns 에서 읽습니다.
+ * - 금액 누적합은 64행마다 하나만 두고, 기간 합계는 이진 탐색 후 구간 양 끝의 64행 이내만 더해서 구합니다. (행당 약 4.1바이트)
+ * - 행 번호는 4096개 단위 세그먼트에 나눠 담아, 커져도 배열 전체를 복사하지 않습니다. (첫 세그먼트만 조금씩 늘림)
+ * - 시각 순서대로 들어온 행은 본 구간 끝에 붙습니다. 늦게 들어온 행(노드 간 이동 등)은 정렬된 구간(run)으로 따로 두고,
+ *   앞 구간이 2배 이하로 작아지면 합쳐 구간 수를 O(log n) 으로 유지합니다. 늦은 행 하나의 비용은 분할 상환 O(log n) 입니다.
+ * - 쓰기는 호출하는 쪽에서 하나씩만 합니다. 읽기는 락 없이 하며, 행을 쓴 뒤 크기를 올리고 합친 구간은 다 만든 뒤 바꿔 끼웁니다.
+ */
+final class PointHistoryTimeIndex {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int SEGMENT_SHIFT = 12;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+    // 내역이 없는 종류는 배열을 만들지 않는다. (유저마다 인덱스를 가지므로)
+    private static final int[][] NO_SEGMENTS = new int[0][];
+    private static final long[] NO_BLOCKS = new long[1];
+    private static final Run[] NO_RUNS = new Run[0];
+
+    private final PointHistoryColumns columns;
+    private final Lane[] lanes = new Lane[TYPES.length];
+
+    PointHistoryTimeIndex(PointHistoryColumns columns) {
+        this.columns = columns;
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    void add(int row) {
+        lanes[columns.type(row).ordinal()].add(row);
+    }
+
+    // [from, to) 행을 한 번에 추가
+    void addAll(int from, int to) {
+        int[] rows = new int[to - from];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = from + i;
+        }
+        addAll(rows);
+    }
+
+    // 여러 행을 한 번에 추가 - 종류별로 정렬한 뒤 본 구간 끝보다 뒤인 행은 붙이고, 나머지는 구간 하나로 둔다.
+    void addAll(int[] rows) {
+        int[][] grouped = new int[lanes.length][rows.length];
+        int[] counts = new int[lanes.length];
+        for (int row : rows) {
+            int lane = columns.type(row).ordinal();
+            grouped[lane][counts[lane]++] = row;
+        }
+        for (int i = 0; i < lanes.length; i++) {
+            if (counts[i] > 0) {
+                lanes[i].addSorted(sort(grouped[i], counts[i]), counts[i]);
+            }
+        }
+    }
+
+    // 가장 늦은 내역의 시각 (내역이 없으면 null)
+    Long lastMillis() {
+        Long last = null;
+        for (Lane lane : lanes) {
+            for (Run run : lane.runs()) {
+                int size = run.size;
+                if (size > 0) {
+                    long millis = columns.updateMillis(run.row(size - 1));
+                    last = last == null ? millis : Math.max(last, millis);
+                }
+            }
+        }
+        return last;
+    }
+
+    // (fromMillis, cursor) 이후이고 toMillis 이전인 내역을 (updateMillis, id) 순으로 최대 limit 개 (type 이 null 이면 전체 종류)
+    PointHistoryPage select(long fromMillis, long cursor, long toMillis, TransactionType type, int limit) {
+        List<Run> selected = new ArrayList<>();
+        for (int i = 0; i < lanes.length; i++) {
+            if (type == null || type.ordinal() == i) {
+                Collections.addAll(selected, lanes[i].runs());
+            }
+        }
+        Run[] runs = selected.toArray(NO_RUNS);
+        int[] positions = new int[runs.length];
+        int[] ends = new int[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            int size = runs[i].size;
+            positions[i] = runs[i].indexAfter(size, fromMillis, cursor);
+            ends[i] = runs[i].indexBefore(size, toMillis);
+        }
+
+        List<PointHistory> result = new ArrayList<>();
+        int last = -1;
+        while (true) {
+            // 정렬된 구간들을 합치며 가장 앞선 내역을 고른다.
+            int next = -1;
+            int nextRow = -1;
+            for (int i = 0; i < runs.length; i++) {
+                if (positions[i] < ends[i]) {
+                    int row = runs[i].row(positions[i]);
+                    if (next < 0 || compare(row, nextRow) < 0) {
+                        next = i;
+                        nextRow = row;
+                    }
+                }
+            }
+            if (next < 0) {
+                return new PointHistoryPage(Collections.unmodifiableList(result), null);
+            }
+            // 다른 노드로 넘겨준 유저의 행은 건너뛴다. (전체 인덱스에만 남아 있음)
+            if (columns.isDropped(nextRow)) {
+                positions[next]++;
+                continue;
+            }
+            if (result.size() == limit) {
+                return new PointHistoryPage(Collections.unmodifiableList(result), columns.id(last));
+            }
+            positions[next]++;
+            last = nextRow;
+            result.add(columns.materialize(last));
+        }
+    }
+
+    // [fromMillis, toMillis) 기간의 종류별 건수와 금액 합계
+    PointHistoryTotals totals(long fromMillis, long toMillis) {
+        long[] charges = lanes[TransactionType.CHARGE.ordinal()].totals(fromMillis, toMillis);
+        long[] uses = lanes[TransactionType.USE.ordinal()].totals(fromMillis, toMillis);
+        return new PointHistoryTotals((int) charges[0], charges[1], (int) uses[0], uses[1]);
+    }
+
+    private int compare(int row, int other) {
+        int result = Long.compare(columns.updateMillis(row), columns.updateMillis(other));
+        return result != 0 ? result : Long.compare(columns.id(row), columns.id(other));
+    }
+
+    // (updateMillis, id) 순 정렬 (병합 정렬)
+    private int[] sort(int[] rows, int count) {
+        int[] buffer = new int[count];
+        for (int width = 1; width < count; width <<= 1) {
+            for (int low = 0; low < count; low += width << 1) {
+                int mid = Math.min(low + width, count);
+                int high = Math.min(low + (width << 1), count);
+                int left = low;
+                int right = mid;
+                for (int i = low; i < high; i++) {
+                    buffer[i] = right >= high || (left < mid && compare(rows[left], rows[right]) <= 0) ? rows[left++] : rows[right++];
+                }
+            }
+            int[] swap = rows;
+            rows = buffer;
+            buffer = swap;
+        }
+        return rows;
+    }
+
+    // 한 종류의 내역 - 시각 순으로 붙는 본 구간과, 늦게 들어온 행의 구간들(크기 내림차순)
+    private final class Lane {
+        private final Run main = new Run();
+        private volatile Run[] late = NO_RUNS;
+
+        void add(int row) {
+            int size = main.size;
+            if (size == 0 || compare(main.row(size - 1), row) <= 0) {
+                main.append(row);
+            } else {
+                Run run = new Run();
+                run.append(row);
+                addLate(run);
+            }
+        }
+
+        void addSorted(int[] rows, int count) {
+            int size = main.size;
+            int split = 0;
+            if (size > 0) {
+                int tail = main.row(size - 1);
+                while (split < count && compare(rows[split], tail) < 0) {
+                    split++;
+                }
+            }
+            if (split > 0) {
+                Run run = new Run();
+                for (int i = 0; i < split; i++) {
+                    run.append(rows[i]);
+                }
+                addLate(run);
+            }
+            for (int i = split; i < count; i++) {
+                main.append(rows[i]);
+            }
+        }
+
+        // 본 구간과 늦은 구간들 (읽는 시점의 스냅숏)
+        Run[] runs() {
+            Run[] snapshot = late;
+            Run[] runs = new Run[snapshot.length + 1];
+            runs[0] = main;
+            System.arraycopy(snapshot, 0, runs, 1, snapshot.length);
+            return runs;
+        }
+
+        // {건수, 금액 합계}
+        long[] totals(long fromMillis, long toMillis) {
+            long count = 0;
+            long sum = 0L;
+            for (Run run : runs()) {
+                int size = run.size;
+                int from = run.indexAfter(size, fromMillis, Long.MIN_VALUE);
+                int to = Math.max(from, run.indexBefore(size, toMillis));
+                count += to - from;
+                sum += run.prefixSum(to) - run.prefixSum(from);
+            }
+            return new long[]{count, sum};
+        }
+
+        private void addLate(Run run) {
+            Run[] runs = Arrays.copyOf(late, late.length + 1);
+            int count = runs.length;
+            runs[count - 1] = run;
+            while (count > 1 && runs[count - 2].size <= 2 * runs[count - 1].size) {
+                runs[count - 2] = merge(runs[count - 2], runs[count - 1]);
+                count--;
+            }
+            late = count == runs.length ? runs : Arrays.copyOf(runs, count);
+        }
+
+        private Run merge(Run left, Run right) {
+            Run merged = new Run();
+            int leftSize = left.size;
+            int rightSize = right.size;
+            int i = 0;
+            int j = 0;
+            while (i < leftSize || j < rightSize) {
+                if (j >= rightSize || (i < leftSize && compare(left.row(i), right.row(j)) <= 0)) {
+                    merged.append(left.row(i++));
+                } else {
+                    merged.append(right.row(j++));
+                }
+            }
+            return merged;
+        }
+    }
+
+    // (updateMillis, id) 순으로 정렬된 행 번호 - blocks[b] 는 앞 b*64 개의 금액 합계
+    private final class Run {
+        private volatile int[][] segments = NO_SEGMENTS;
+        private volatile long[] blocks = NO_BLOCKS;
+        private volatile int size;
+        private long total;
+
+        // size 를 먼저 읽은 뒤 호출해야 한다.
+        int row(int index) {
+            return segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+        }
+
+        void append(int row) {
+            int index = size;
+            int segment = index >>> SEGMENT_SHIFT;
+            int offset = index & SEGMENT_MASK;
+            int[][] current = segments;
+            if (segment == current.length) {
+                current = Arrays.copyOf(current, Math.max(1, segment << 1));
+            }
+            if (current[segment] == null) {
+                current[segment] = new int[segment == 0 ? 4 : SEGMENT_SIZE];
+            } else if (offset == current[segment].length) {
+                // 첫 세그먼트만 SEGMENT_SIZE 까지 늘어난다. (읽는 쪽은 이전 배열을 봐도 같은 행을 읽음)
+                current[segment] = Arrays.copyOf(current[segment], Math.min(SEGMENT_SIZE, offset + (offset >> 1)));
+            }
+            current[segment][offset] = row;
+            segments = current;
+
+            total += columns.amount(row);
+            if (((index + 1) & BLOCK_MASK) == 0) {
+                int block = (index + 1) >>> BLOCK_SHIFT;
+                long[] sums = blocks;
+                if (block == sums.length) {
+                    sums = Arrays.copyOf(sums, sums.length << 1);
+                }
+                sums[block] = total;
+                blocks = sums;
+            }
+            size = index + 1;
+        }
+
+        // 앞 index 개의 금액 합계
+        long prefixSum(int index) {
+            int block = index >>> BLOCK_SHIFT;
+            long sum = blocks[block];
+            for (int i = block << BLOCK_SHIFT; i < index; i++) {
+                sum += columns.amount(row(i));
+            }
+            return sum;
+        }
+
+        // (updateMillis, id) 가 (fromMillis, cursor) 보다 큰 첫 위치
+        int indexAfter(int size, long fromMillis, long cursor) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int row = row(mid);
+                long millis = columns.updateMillis(row);
+                if (millis < fromMillis || (millis == fromMillis && columns.id(row) <= cursor)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // updateMillis 가 toMillis 이상인 첫 위치
+        int indexBefore(int size, long toMillis) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (columns.updateMillis(row(mid)) < toMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
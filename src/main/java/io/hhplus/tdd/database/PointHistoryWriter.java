@@ -0,0 +1,258 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역 write-behind 기록기
+ * - 충전/사용 요청은 내역을 대기열에 넣기만 하고 바로 반환합니다. (테이블 기록 시간이 유저 락 구간에서 빠짐)
+ * - 전용 스레드 하나가 대기열을 배치 단위로 꺼내 PointHistoryStore 에 기록하므로, 들어온 순서(= 유저별 순서)가 그대로 유지됩니다.
+ * - 기록은 비동기이므로 충전/사용 직후의 내역 조회에는 아직 반영되지 않았을 수 있습니다. 반영이 필요하면 flush() 를 호출합니다.
+ * - 종료 시 대기열에 남은 내역을 모두 기록한 뒤 멈춥니다.
+ *   멈춘 뒤 들어온 내역은 기록 스레드가 끝나기를 기다렸다가, 락 하나 안에서 대기열에 남은 내역을 먼저 기록한 뒤 기록합니다.
+ *   (기록 스레드와 동시에 쓰지 않고, 유저별 순서도 유지)
+ */
+@Component
+public class PointHistoryWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    private final PointHistoryStore pointHistoryStore;
+    private final BlockingQueue<PendingHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final ReentrantLock writtenLock = new ReentrantLock();
+    private final Condition writtenCondition = writtenLock.newCondition();
+    private volatile long written;
+
+    // 멈춘 뒤의 기록(대기열 비우기, 바로 기록)을 하나씩 하도록 직렬화
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private volatile boolean running;
+    private volatile Thread consumer;
+
+    public PointHistoryWriter(PointHistoryStore pointHistoryStore, PointHistoryWriterProperties properties) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+        this.batchSize = properties.batchSize();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+    }
+
+    // 내역을 대기열에 추가 (대기열이 가득 차면 자리가 나거나 기록 스레드가 멈출 때까지 대기)
+    public void enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+        PendingHistory pending = new PendingHistory(userId, amount, type, updateMillis, System.nanoTime());
+        if (!running) {
+            // 기록 스레드가 멈춘 뒤에는 유실되지 않도록 바로 기록한다.
+            writeDirectly(pending);
+            return;
+        }
+        try {
+            while (!queue.offer(pending, 100, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    // 기다리는 사이 기록 스레드가 멈췄다면 자리가 나지 않으므로 바로 기록한다.
+                    writeDirectly(pending);
+                    return;
+                }
+            }
+            enqueued.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 내역 기록 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        if (!running) {
+            // 넣는 사이 stop() 이 대기열을 이미 비웠을 수 있으므로 남은 내역을 직접 기록한다.
+            drainRemaining();
+        }
+    }
+
+    private void writeDirectly(PendingHistory pending) {
+        enqueued.incrementAndGet();
+        awaitConsumer();
+        drainLock.lock();
+        try {
+            // 먼저 들어온 내역을 모두 기록한 뒤에 기록해야 유저별 순서가 유지된다.
+            drainQueue();
+            write(pending);
+            markWritten(1);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // 호출 시점까지 대기열에 들어온 내역이 모두 기록될 때까지 대기
+    public void flush() throws InterruptedException {
+        long target = enqueued.get();
+        writtenLock.lock();
+        try {
+            while (written < target) {
+                writtenCondition.await();
+            }
+        } finally {
+            writtenLock.unlock();
+        }
+    }
+
+    public PointHistoryWriterStats stats() {
+        PendingHistory oldest = queue.peek();
+        long lagMillis = oldest == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedNanos());
+        return new PointHistoryWriterStats(queue.size(), lagMillis, written);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consume, "point-history-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        // 멈추는 사이 들어온 내역까지 남김없이 기록
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작하고, 웹 서버가 요청을 더 받지 않게 된 뒤에 멈춘다.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void consume() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    // 배치가 찰 때까지 flushInterval 동안 추가 내역을 모은다.
+    private void fillBatch(List<PendingHistory> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 멈춘 뒤 대기열에 남은 내역을 기록 (기록 스레드가 끝난 뒤에 한다)
+    private void drainRemaining() {
+        awaitConsumer();
+        drainLock.lock();
+        try {
+            drainQueue();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // 기록 스레드는 멈춘 뒤에도 꺼낸 배치를 마저 기록하므로, 그동안 다른 스레드가 쓰지 않도록 끝날 때까지 기다린다.
+    private void awaitConsumer() {
+        Thread thread = consumer;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // drainLock 을 잡은 채로 호출
+    private void drainQueue() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingHistory> batch) {
+        for (PendingHistory pending : batch) {
+            write(pending);
+        }
+        markWritten(batch.size());
+    }
+
+    private void write(PendingHistory pending) {
+        try {
+            pointHistoryStore.insert(pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+        } catch (RuntimeException e) {
+            log.error("포인트 내역 기록 실패: {}", pending, e);
+        }
+    }
+
+    private void markWritten(int count) {
+        writtenLock.lock();
+        try {
+            written += count;
+            writtenCondition.signalAll();
+        } finally {
+            writtenLock.unlock();
+        }
+    }
+
+    private record PendingHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis,
+            long enqueuedNanos
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PointHistoryWriter 설정
+ * - capacity : 기록 대기열의 최대 크기 (가득 차면 요청 스레드가 자리가 날 때까지 대기)
+ * - batchSize : 한 번에 꺼내 기록하는 최대 개수
+ * - flushInterval : 배치가 다 차지 않았을 때 추가 내역을 기다리는 최대 시간
+ */
+@ConfigurationProperties("point.history.write-behind")
+public record PointHistoryWriterProperties(
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10ms") Duration flushInterval
+) {
+
+    public PointHistoryWriterProperties {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("point.history.write-behind.capacity 는 0보다 커야 합니다.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("point.history.write-behind.batch-size 는 0보다 커야 합니다.");
+        }
+        if (flushInterval == null || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("point.history.write-behind.flush-interval 은 0 이상이어야 합니다.");
+        }
+    }
+}
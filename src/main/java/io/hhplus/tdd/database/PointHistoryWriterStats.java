@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+/**
+ * PointHistoryWriter 상태 스냅샷
+ * - queueDepth : 아직 기록되지 않은 내역 수
+ * - lagMillis : 가장 오래 대기 중인 내역이 대기열에 머문 시간
+ * - written : 지금까지 기록한 내역 수
+ */
+public record PointHistoryWriterStats(
+        int queueDepth,
+        long lagMillis,
+        long written
+) {
+}
@@ -0,0 +1,228 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable 앞단의 write-through 캐시
+ * - 조회는 캐시를 먼저 확인하고, 없거나 TTL 이 지난 경우에만 테이블을 읽어 적재합니다.
+ * - insertOrUpdate 는 테이블에 쓴 결과로 캐시를 바로 갱신합니다.
+ * - 세그먼트마다 LRU 로 크기를 제한하며, 테이블 호출(throttle)은 세그먼트 락 밖에서 수행합니다.
+ * - 같은 유저의 캐시 미스가 겹치면 먼저 시작한 테이블 조회 하나를 함께 기다립니다. (single-flight)
+ *   단, 그 조회가 시작된 뒤 같은 세그먼트에 쓰기가 끝났다면 함께 기다리지 않고 새로 읽으므로, 완료된 충전/사용 이후의 조회는 항상 그 결과를 봅니다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointTable userPointTable;
+    private final PointMetrics pointMetrics;
+    private final Segment[] segments;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<Long, Flight> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder coalescedReads = new LongAdder();
+
+    public UserPointCache(UserPointTable userPointTable, UserPointCacheProperties properties, PointMetrics pointMetrics) {
+        this.userPointTable = userPointTable;
+        this.pointMetrics = pointMetrics;
+        this.ttlNanos = properties.ttl().toNanos();
+        int segmentCapacity = Math.max(1, (properties.maximumSize() + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    // 캐시에 있으면 바로 반환, 없으면 테이블에서 읽어 적재
+    public UserPoint selectById(long id) {
+        Segment segment = segmentFor(id);
+        UserPoint cached = segment.get(id, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // 읽는 동안 같은 세그먼트에 쓰기가 있었다면 읽은 값이 오래된 값일 수 있으므로 적재하지 않는다.
+        long writeSeq = segment.writeSeq();
+        Flight created = new Flight(writeSeq);
+        // 같은 쓰기 시점(writeSeq)에 시작된 조회가 진행 중이면 그 결과를 함께 쓴다.
+        Flight flight = flights.compute(id, (k, v) -> v != null && v.writeSeq == writeSeq ? v : created);
+        if (flight != created) {
+            coalescedReads.increment();
+            return await(flight);
+        }
+
+        try {
+            long start = System.nanoTime();
+            UserPoint loaded = userPointTable.selectById(id);
+            pointMetrics.recordTableCall(PointMetrics.TableCall.USER_POINT_SELECT_BY_ID, System.nanoTime() - start);
+            if (loaded != null) {
+                segment.putIfUnchanged(id, loaded, writeSeq, System.nanoTime());
+            }
+            created.result.complete(loaded);
+            return loaded;
+        } catch (Throwable t) {
+            // Error 도 함께 기다리는 조회에 전달해야 그 조회가 끝없이 기다리지 않는다.
+            created.result.completeExceptionally(t);
+            throw t;
+        } finally {
+            flights.remove(id, created);
+        }
+    }
+
+    // 테이블에 쓰고, 쓴 결과로 캐시 갱신
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long start = System.nanoTime();
+        UserPoint updated = userPointTable.insertOrUpdate(id, amount);
+        pointMetrics.recordTableCall(PointMetrics.TableCall.USER_POINT_INSERT_OR_UPDATE, System.nanoTime() - start);
+        if (updated != null) {
+            segmentFor(id).put(id, updated, System.nanoTime());
+        }
+        return updated;
+    }
+
+    public void invalidate(long id) {
+        segmentFor(id).remove(id);
+    }
+
+    public UserPointCacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new UserPointCacheStats(hits.sum(), misses.sum(), evictions.sum(), size, coalescedReads.sum());
+    }
+
+    private static UserPoint await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Segment segmentFor(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return segments[(int) (h >>> 60) & (SEGMENT_COUNT - 1)];
+    }
+
+    private record Entry(UserPoint userPoint, long loadedNanos) {
+    }
+
+    // 진행 중인 테이블 조회 (writeSeq : 조회를 시작할 때의 세그먼트 쓰기 번호)
+    private static final class Flight {
+        private final long writeSeq;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        Flight(long writeSeq) {
+            this.writeSeq = writeSeq;
+        }
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, Entry> entries;
+        private long writeSeq;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        UserPoint get(long id, long now) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    return null;
+                }
+                if (now - entry.loadedNanos() >= ttlNanos) {
+                    entries.remove(id);
+                    evictions.increment();
+                    return null;
+                }
+                return entry.userPoint();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long writeSeq() {
+            lock.lock();
+            try {
+                return writeSeq;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(long id, UserPoint userPoint, long now) {
+            lock.lock();
+            try {
+                writeSeq++;
+                entries.put(id, new Entry(userPoint, now));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void putIfUnchanged(long id, UserPoint userPoint, long expectedWriteSeq, long now) {
+            lock.lock();
+            try {
+                if (writeSeq == expectedWriteSeq) {
+                    entries.put(id, new Entry(userPoint, now));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(long id) {
+            lock.lock();
+            try {
+                writeSeq++;
+                entries.remove(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * UserPointCache 설정
+ * - maximumSize : 캐시에 보관할 최대 유저 수 (초과 시 가장 오래 사용되지 않은 항목부터 제거)
+ * - ttl : 항목을 적재한 뒤 유지하는 시간 (지나면 다음 조회 때 테이블에서 다시 읽음)
+ */
+@ConfigurationProperties("point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("10m") Duration ttl
+) {
+
+    public UserPointCacheProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("point.cache.maximum-size 는 0보다 커야 합니다.");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("point.cache.ttl 은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+/**
+ * UserPointCache 통계 스냅샷
+ * - coalescedReads : 진행 중인 테이블 조회를 함께 기다려 아낀 selectById 호출 수 (misses 에 포함)
+ */
+public record UserPointCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long size,
+        long coalescedReads
+) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
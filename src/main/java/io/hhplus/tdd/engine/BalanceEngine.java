@@ -0,0 +1,230 @@
+package io.hhplus.tdd.engine;
+
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 락 없는 메모리 잔액 엔진 (userId → 잔액, open addressing + linear probing)
+ * - 유저 칸은 한 번 차지하면 지우지 않으며(고정 용량, 재배치 없음), 칸 번호가 바뀌지 않으므로 잔액은 칸 단위 compare-and-set 으로 갱신합니다.
+ * - 금액 범위, 잔액 부족, 최대 잔액 검증을 CAS 직전의 잔액으로 하므로, 검증과 반영 사이에 다른 요청이 끼어들 수 없습니다.
+ *   (기본 규칙 PointRulePipeline.defaultRules 와 같은 검증, 같은 예외)
+ * - 성공 경로(이미 등록된 유저의 충전/사용)는 배열 읽기와 CAS 만 하고 객체를 만들지 않습니다. 실패할 때만 예외 객체를 만듭니다.
+ * - 처음 보는 유저는 ABSENT 를 반환하므로, 호출하는 쪽이 잔액을 읽어 register 한 뒤 다시 호출합니다.
+ *   실패할 요청으로 칸이 차지 않도록, 등록 전에 읽은 잔액으로 check 해서 통과할 때만 등록합니다.
+ * - 테이블 반영은 flush 로 바뀐 잔액만 모아서 합니다. (마지막으로 내보낸 잔액과 다른 칸만)
+ *   등록 순서대로 칸 번호를 따로 적어 두므로 flush 는 전체 칸이 아니라 등록된 유저 수만큼만 훑습니다.
+ * - 용량의 3/4 를 넘게 등록하면 BalanceEngineFullException 을 던집니다.
+ */
+public final class BalanceEngine {
+
+    // 등록되지 않은 유저 (잔액으로 나올 수 없는 값)
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final long maxChargeAmount;
+    private final long maxUseAmount;
+    private final long maxBalance;
+    private final int mask;
+    private final int maxSize;
+
+    private final long[] keys;
+    // 칸을 차지한 뒤 잔액을 쓰기 전까지는 ABSENT
+    private final long[] balances;
+    private final long[] updateMillis;
+    // flush 스레드만 접근 - 마지막으로 내보낸(또는 등록할 때 읽은) 잔액
+    private final long[] flushedBalances;
+    // 등록 순서대로 (칸 번호 + 1) - 적기 전의 0 은 다음 flush 에서 다시 읽는다.
+    private final int[] registeredSlots;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger registered = new AtomicInteger();
+
+    public BalanceEngine(int capacity, long maxChargeAmount, long maxUseAmount, long maxBalance) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.maxChargeAmount = maxChargeAmount;
+        this.maxUseAmount = maxUseAmount;
+        this.maxBalance = maxBalance;
+        this.mask = capacity - 1;
+        // 탐색 길이가 길어지지 않도록 3/4 까지만 채운다.
+        this.maxSize = (int) (capacity * 3L / 4);
+        this.keys = new long[capacity];
+        this.balances = new long[capacity];
+        this.updateMillis = new long[capacity];
+        this.flushedBalances = new long[capacity];
+        this.registeredSlots = new int[maxSize];
+        Arrays.fill(balances, ABSENT);
+    }
+
+    // 충전/사용을 반영한 새 잔액 (등록되지 않은 유저면 ABSENT, 검증에 실패하면 PointValidationException)
+    public long apply(long userId, TransactionType type, long amount, long now) {
+        boolean charge = type == TransactionType.CHARGE;
+        checkAmount(charge, amount);
+        int slot = indexOf(userId);
+        if (slot < 0) {
+            return ABSENT;
+        }
+        while (true) {
+            long current = awaitBalance(slot);
+            long next = next(charge, current, amount);
+            if (LONGS.compareAndSet(balances, slot, current, next)) {
+                LONGS.setOpaque(updateMillis, slot, now);
+                return next;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // balance 에 충전/사용을 적용할 수 있는지 apply 와 같은 검증만 한다. (등록 전 확인용)
+    public void check(TransactionType type, long amount, long balance) {
+        boolean charge = type == TransactionType.CHARGE;
+        checkAmount(charge, amount);
+        next(charge, balance, amount);
+    }
+
+    // 현재 잔액 (등록되지 않은 유저면 ABSENT)
+    public long balance(long userId) {
+        int slot = indexOf(userId);
+        return slot < 0 ? ABSENT : awaitBalance(slot);
+    }
+
+    // 마지막으로 잔액이 바뀐 시각 (등록만 되고 바뀐 적이 없으면 등록할 때 받은 시각)
+    public long updateMillis(long userId) {
+        int slot = indexOf(userId);
+        return slot < 0 ? 0L : (long) LONGS.getOpaque(updateMillis, slot);
+    }
+
+    /**
+     * 유저를 등록 (이미 등록되어 있으면 아무것도 하지 않음)
+     * 동시에 여러 스레드가 등록해도 한 번만 반영되므로, 호출하는 쪽은 테이블에서 읽은 같은 잔액을 넘겨야 합니다.
+     */
+    public void register(long userId, long balance, long millis) {
+        if (userId == 0L) {
+            throw new IllegalArgumentException("userId 0 은 등록할 수 없습니다.");
+        }
+        int slot = hash(userId);
+        while (true) {
+            long key = (long) LONGS.getAcquire(keys, slot);
+            if (key == userId) {
+                return;
+            }
+            if (key == 0L) {
+                // 칸을 차지하기 전에 자리를 예약하므로 빈 칸이 항상 남는다. (없는 유저 탐색이 끝나도록)
+                if (size.incrementAndGet() > maxSize) {
+                    size.decrementAndGet();
+                    throw new BalanceEngineFullException(maxSize);
+                }
+                if (LONGS.compareAndSet(keys, slot, 0L, userId)) {
+                    flushedBalances[slot] = balance;
+                    LONGS.setOpaque(updateMillis, slot, millis);
+                    // 잔액을 쓰기 전까지 다른 스레드는 awaitBalance 에서 기다린다.
+                    LONGS.setRelease(balances, slot, balance);
+                    INTS.setRelease(registeredSlots, registered.getAndIncrement(), slot + 1);
+                    return;
+                }
+                // 다른 유저(또는 같은 유저)가 먼저 차지 - 예약을 돌려놓고 같은 칸을 다시 확인
+                size.decrementAndGet();
+                continue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 잔액이 바뀐 유저를 sink 로 내보내고, 내보낸 유저 수를 반환합니다.
+     * 한 스레드에서만 호출해야 합니다. 등록된 유저만 훑으므로 비용은 용량이 아니라 유저 수에 비례합니다.
+     */
+    public int flush(BalanceSink sink) {
+        int flushed = 0;
+        int count = registered.get();
+        for (int i = 0; i < count; i++) {
+            int slot = (int) INTS.getAcquire(registeredSlots, i) - 1;
+            if (slot < 0) {
+                continue;
+            }
+            long balance = (long) LONGS.getAcquire(balances, slot);
+            if (balance == ABSENT || balance == flushedBalances[slot]) {
+                continue;
+            }
+            sink.write(keys[slot], balance);
+            flushedBalances[slot] = balance;
+            flushed++;
+        }
+        return flushed;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // userId 가 있는 칸 (없으면 -1)
+    private void checkAmount(boolean charge, long amount) {
+        if (amount <= 0) {
+            throw new PointValidationException(ValidationFailureReason.INVALID_AMOUNT, (charge ? "충전" : "사용") + " 금액은 0보다 커야 합니다.");
+        }
+        long limit = charge ? maxChargeAmount : maxUseAmount;
+        if (amount > limit) {
+            throw new PointValidationException(ValidationFailureReason.AMOUNT_LIMIT_EXCEEDED,
+                    (charge ? "충전" : "사용") + " 금액은 " + limit + "원을 초과할 수 없습니다.");
+        }
+    }
+
+    private long next(boolean charge, long current, long amount) {
+        if (charge) {
+            // 뺄셈으로 비교하므로 long 범위를 넘는 충전도 막힌다.
+            if (amount > maxBalance - current) {
+                throw new PointValidationException(ValidationFailureReason.MAX_BALANCE_EXCEEDED, "잔액은 " + maxBalance + "원을 초과할 수 없습니다.");
+            }
+            return current + amount;
+        }
+        if (current < amount) {
+            throw new PointValidationException(ValidationFailureReason.INSUFFICIENT_BALANCE, "포인트가 부족합니다.");
+        }
+        return current - amount;
+    }
+
+    private int indexOf(long userId) {
+        int slot = hash(userId);
+        while (true) {
+            long key = (long) LONGS.getAcquire(keys, slot);
+            if (key == 0L) {
+                return -1;
+            }
+            if (key == userId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // 칸을 차지한 스레드가 잔액을 쓸 때까지 대기 (등록 직후의 아주 짧은 구간)
+    private long awaitBalance(int slot) {
+        long balance;
+        while ((balance = (long) LONGS.getAcquire(balances, slot)) == ABSENT) {
+            Thread.onSpinWait();
+        }
+        return balance;
+    }
+
+    private int hash(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    @FunctionalInterface
+    public interface BalanceSink {
+        void write(long userId, long balance);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.engine;
+
+/**
+ * 잔액 엔진에 더 이상 유저를 등록할 수 없는 경우 (503)
+ * - 등록한 유저는 지우지 않으므로 point.engine.capacity 의 3/4 를 넘는 유저가 요청하면 재시작(용량 변경) 전까지 계속 발생합니다.
+ */
+public class BalanceEngineFullException extends IllegalStateException {
+
+    public BalanceEngineFullException(int maxSize) {
+        super("잔액 엔진 용량을 초과했습니다. (최대 " + maxSize + "명)");
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.engine;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 락 없는 잔액 엔진 설정 (point.concurrency.mode=LOCK_FREE 일 때만 사용)
+ * - capacity : 칸 수 (2의 거듭제곱, 최대 3/4 까지 유저를 등록하며 칸당 약 35바이트, 등록한 유저는 지우지 않음)
+ * - flushInterval : 바뀐 잔액을 테이블에 반영하는 주기
+ */
+@ConfigurationProperties("point.engine")
+public record BalanceEngineProperties(
+        @DefaultValue("262144") int capacity,
+        @DefaultValue("100ms") Duration flushInterval
+) {
+
+    public BalanceEngineProperties {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("point.engine.capacity 는 2의 거듭제곱이어야 합니다.");
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("point.engine.flush-interval 은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.feed;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.List;
+
+/**
+ * 변경 피드 응답
+ * - changes : cursor 이후에 기록된 충전/사용 내역 (기록 순서)
+ * - nextCursor : 다음 요청에 넘길 cursor (새 내역이 없으면 요청한 cursor 그대로)
+ */
+public record PointChangeBatch(
+        List<PointHistory> changes,
+        long nextCursor
+) {
+
+    public static PointChangeBatch empty(long cursor) {
+        return new PointChangeBatch(List.of(), cursor);
+    }
+}
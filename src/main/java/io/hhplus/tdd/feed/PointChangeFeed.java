@@ -0,0 +1,258 @@
+package io.hhplus.tdd.feed;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 유저의 충전/사용 내역을 기록 순서대로 내보내는 변경 피드
+ * - cursor 는 내역 저장소의 기록 순번(행 번호 + 1)이며, 소비자는 받은 nextCursor 로 이어서 읽습니다.
+ *   PointHistory.id 와는 별개입니다. TABLE 저장 방식은 테이블이 id 를 발급하고, 기록 스레드 밖(종료 후 기록, 유저 넘겨받기)에서 추가된 행은
+ *   id 순서와 기록 순서가 다를 수 있으므로, 내역은 id 가 아니라 기록 순서로 받는다고 보아야 합니다.
+ * - 다른 노드에서 넘겨받은 내역(파티션 유저 이동)은 새 변경이 아니므로 내보내지 않고 순번만 건너뜁니다.
+ *   그래서 받은 내역이 limit 보다 적거나 비어 있어도 nextCursor 는 앞으로 갈 수 있습니다.
+ * - 최근 capacity 개의 내역은 링 버퍼에 PointHistory 그대로 보관해 바로 반환하고, 그보다 뒤처진 cursor 는 내역 저장소(PointHistoryColumns)에서 행 번호로 읽습니다.
+ *   유저별 내역 조회처럼 전체 내역을 훑지 않으므로 한 번의 요청 비용은 반환하는 내역 수에만 비례합니다.
+ * - 새 내역이 없으면 최대 wait 동안 기다렸다가(long-poll) 내역이 기록되는 즉시 반환합니다. 기다리는 동안 스레드를 점유하지 않습니다.
+ *   기다리던 요청은 내역을 기록한 스레드(내역 기록기)가 아니라 알림 스레드(point-feed-notifier)에서 읽어 완료하므로, 기다리는 요청이 많아도 내역 기록이 늦어지지 않습니다.
+ * - 시작 전에 기록된 내역은 링 버퍼에 없고 저장소에서 읽습니다.
+ */
+@Component
+public class PointChangeFeed implements AutoCloseable {
+
+    private final PointHistoryStore pointHistoryStore;
+    private final PointMetrics pointMetrics;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int mask;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 아래는 lock 안에서만 접근 - 순번 seq 의 내역은 (seq - 1) & mask 칸에 둔다.
+    private final PointHistory[] slots;
+    private final long[] slotSeqs;
+    // 빈틈 없이 반영된 마지막 순번, 링 버퍼에 처음 들어온 순번의 직전 순번
+    private long published;
+    private final long ringStart;
+    // 아직 반영되지 않은 넘겨받은 행의 순번 구간 (첫 순번 -> 마지막 순번), 링 버퍼에는 넣지 않는다.
+    private final Map<Long, Long> importedRanges = new HashMap<>();
+    private final Set<Waiter> waiters = new HashSet<>();
+    // 깨운 요청의 내역을 읽어 완료하는 스레드
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-feed-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PointChangeFeed(PointHistoryStore pointHistoryStore, PointMetrics pointMetrics, PointChangeFeedProperties properties) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointMetrics = pointMetrics;
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.mask = properties.capacity() - 1;
+        this.slots = new PointHistory[properties.capacity()];
+        this.slotSeqs = new long[properties.capacity()];
+        this.published = pointHistoryStore.size();
+        this.ringStart = published;
+        pointHistoryStore.setAppendListener(new PointHistoryStore.AppendListener() {
+            @Override
+            public void appended(int row, PointHistory pointHistory) {
+                publish(row + 1L, pointHistory);
+            }
+
+            @Override
+            public void imported(int fromRow, int toRow) {
+                skip(fromRow + 1L, toRow);
+            }
+        });
+    }
+
+    // cursor 이후의 내역을 최대 limit 개 반환하고, 없으면 최대 waitMillis 동안 새 내역을 기다린다.
+    public CompletableFuture<PointChangeBatch> poll(long cursor, int limit, long waitMillis) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("cursor 는 0 이상이어야 합니다.");
+        }
+        if (limit <= 0 || limit > maxBatchSize) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + maxBatchSize + " 이하여야 합니다.");
+        }
+        PointChangeBatch batch = read(cursor, limit);
+        long waitNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(Math.max(0L, waitMillis)), maxWaitNanos);
+        if (!batch.changes().isEmpty() || batch.nextCursor() > cursor || waitNanos == 0) {
+            return CompletableFuture.completedFuture(batch);
+        }
+
+        Waiter waiter = new Waiter(cursor, limit);
+        lock.lock();
+        try {
+            // 읽은 뒤 등록하기 전에 새 내역이 들어왔으면 바로 반환
+            if (published > cursor) {
+                waiter = null;
+            } else {
+                waiters.add(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (waiter == null) {
+            return CompletableFuture.completedFuture(read(cursor, limit));
+        }
+        Waiter registered = waiter;
+        registered.future.whenComplete((result, error) -> removeWaiter(registered));
+        return registered.future.completeOnTimeout(PointChangeBatch.empty(cursor), waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // cursor 이후의 내역을 최대 limit 개 (기다리지 않음)
+    public PointChangeBatch read(long cursor, int limit) {
+        long end;
+        long oldest;
+        lock.lock();
+        try {
+            end = Math.min(published, cursor + limit);
+            if (cursor >= end) {
+                return PointChangeBatch.empty(cursor);
+            }
+            // 링 버퍼에 남아 있는 순번은 (oldest, published]
+            oldest = Math.max(ringStart, published - slots.length);
+            if (cursor >= oldest) {
+                List<PointHistory> changes = new ArrayList<>((int) (end - cursor));
+                for (long seq = cursor + 1; seq <= end; seq++) {
+                    // 넘겨받은 행의 순번은 칸을 채우지 않았으므로 칸의 순번이 다르다.
+                    int slot = (int) ((seq - 1) & mask);
+                    if (slotSeqs[slot] == seq) {
+                        changes.add(slots[slot]);
+                    }
+                }
+                return new PointChangeBatch(changes, end);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 링 버퍼보다 뒤처진 cursor - 순번 seq 의 내역은 저장소의 seq - 1 번 행
+        pointMetrics.recordFeedStoreRead();
+        long to = Math.min(end, oldest);
+        return new PointChangeBatch(pointHistoryStore.selectAppendedRows((int) cursor, (int) to), to);
+    }
+
+    // 기다리는 요청 수
+    public int waiters() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 내역 저장소에 행이 추가될 때 호출 - 앞 순번이 모두 들어온 만큼 반영하고 기다리던 요청을 깨운다.
+    private void publish(long seq, PointHistory pointHistory) {
+        List<Waiter> ready;
+        lock.lock();
+        try {
+            if (seq <= published) {
+                return;
+            }
+            int slot = (int) ((seq - 1) & mask);
+            slots[slot] = pointHistory;
+            slotSeqs[slot] = seq;
+            ready = advance();
+        } finally {
+            lock.unlock();
+        }
+        wake(ready);
+    }
+
+    // 넘겨받은 행 [fromSeq, toSeq] 는 내보내지 않고 순번만 건너뛴다.
+    private void skip(long fromSeq, long toSeq) {
+        List<Waiter> ready;
+        lock.lock();
+        try {
+            importedRanges.put(fromSeq, toSeq);
+            ready = advance();
+        } finally {
+            lock.unlock();
+        }
+        wake(ready);
+    }
+
+    // lock 안에서 호출 - 빈틈 없이 이어진 만큼 published 를 올리고, 올랐으면 깨울 요청을 꺼낸다.
+    private List<Waiter> advance() {
+        long before = published;
+        while (true) {
+            long next = published + 1;
+            if (slotSeqs[(int) (published & mask)] == next) {
+                published = next;
+                continue;
+            }
+            Long last = importedRanges.remove(next);
+            if (last == null) {
+                break;
+            }
+            published = last;
+        }
+        if (published == before || waiters.isEmpty()) {
+            return List.of();
+        }
+        List<Waiter> ready = new ArrayList<>(waiters);
+        waiters.clear();
+        return ready;
+    }
+
+    // 내역을 기록한 스레드에서 호출되므로 읽기와 응답 완료는 알림 스레드에 넘긴다.
+    private void wake(List<Waiter> ready) {
+        if (ready.isEmpty()) {
+            return;
+        }
+        try {
+            notifier.execute(() -> {
+                for (Waiter waiter : ready) {
+                    try {
+                        waiter.future.complete(read(waiter.cursor, waiter.limit));
+                    } catch (RuntimeException e) {
+                        waiter.future.completeExceptionally(e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 읽지 않고 빈 결과로 끝낸다. (같은 cursor 로 다시 요청)
+            ready.forEach(waiter -> waiter.future.complete(PointChangeBatch.empty(waiter.cursor)));
+        }
+    }
+
+    @Override
+    public void close() {
+        notifier.shutdown();
+    }
+
+    private void removeWaiter(Waiter waiter) {
+        lock.lock();
+        try {
+            waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+        private final long cursor;
+        private final int limit;
+        private final CompletableFuture<PointChangeBatch> future = new CompletableFuture<>();
+
+        Waiter(long cursor, int limit) {
+            this.cursor = cursor;
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.feed;
+
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 전체 유저의 충전/사용 내역 변경 피드
+ * 파티션 모드에서는 노드마다 자기 노드에 기록된 내역만 내보내므로, 노드별로 따로 읽습니다. (다른 노드에서 넘겨받은 내역은 내보내지 않음)
+ */
+@RestController
+@RequestMapping("/point/changes")
+public class PointChangeFeedController {
+
+    private final PointChangeFeed pointChangeFeed;
+
+    public PointChangeFeedController(PointChangeFeed pointChangeFeed) {
+        this.pointChangeFeed = pointChangeFeed;
+    }
+
+    /**
+     * cursor 이후의 내역을 최대 limit 개 조회합니다. 새 내역이 없으면 최대 waitSeconds 동안 기다립니다. (long-poll)
+     * 다음 요청에는 응답의 nextCursor 를 넘깁니다.
+     */
+    @GetMapping
+    public CompletableFuture<PointChangeBatch> changes(
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "500") int limit,
+            @RequestParam(defaultValue = "0") long waitSeconds
+    ) {
+        return pointChangeFeed.poll(cursor, limit, waitSeconds * 1_000L);
+    }
+}
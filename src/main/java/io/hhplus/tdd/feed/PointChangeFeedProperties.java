@@ -0,0 +1,32 @@
+package io.hhplus.tdd.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 변경 피드 설정
+ * - capacity : 메모리에 보관할 최근 내역 수 (2의 거듭제곱, 이보다 뒤처진 cursor 는 내역 저장소에서 읽음)
+ * - maxBatchSize : 한 번에 반환할 수 있는 최대 내역 수
+ * - maxWait : 새 내역을 기다릴 수 있는 최대 시간 (long-poll, 비동기 요청 타임아웃보다 짧게)
+ */
+@ConfigurationProperties("point.feed")
+public record PointChangeFeedProperties(
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("1000") int maxBatchSize,
+        @DefaultValue("25s") Duration maxWait
+) {
+
+    public PointChangeFeedProperties {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("point.feed.capacity 는 2의 거듭제곱이어야 합니다.");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("point.feed.max-batch-size 는 0보다 커야 합니다.");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("point.feed.max-wait 는 0 이상이어야 합니다.");
+        }
+    }
+}
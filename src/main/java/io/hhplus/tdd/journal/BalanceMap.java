@@ -0,0 +1,107 @@
+package io.hhplus.tdd.journal;
+
+/**
+ * userId → (잔액, 갱신 시각) primitive 해시 맵 (open addressing, linear probing)
+ * - 항목당 24바이트 배열 3개만 사용하며 객체를 만들지 않습니다. userId 0 은 빈 칸 표시로 쓰므로 저장할 수 없습니다.
+ * - 동기화하지 않으므로 호출하는 쪽에서 락을 잡아야 합니다.
+ * - 크기가 바뀔 때마다 generation 이 증가하므로, 여러 번에 나눠 훑는 쪽은 이것으로 재배치 여부를 확인합니다.
+ */
+final class BalanceMap {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] balances;
+    private long[] updateMillis;
+    private int mask;
+    private int size;
+    private int generation;
+
+    BalanceMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < MAX_CAPACITY && capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    void put(long userId, long balance, long millis) {
+        int slot = slotFor(userId);
+        if (keys[slot] == 0L) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize();
+                slot = slotFor(userId);
+            }
+            keys[slot] = userId;
+            size++;
+        }
+        balances[slot] = balance;
+        updateMillis[slot] = millis;
+    }
+
+    // userId 의 칸 번호 (없으면 -1)
+    int indexOf(long userId) {
+        int slot = slotFor(userId);
+        return keys[slot] == 0L ? -1 : slot;
+    }
+
+    long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    long balanceAt(int slot) {
+        return balances[slot];
+    }
+
+    long updateMillisAt(int slot) {
+        return updateMillis[slot];
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int generation() {
+        return generation;
+    }
+
+    // userId 가 있는 칸, 없으면 들어갈 빈 칸
+    private int slotFor(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (keys[slot] != 0L && keys[slot] != userId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("잔액 맵 크기 한도를 초과했습니다.");
+        }
+        long[] oldKeys = keys;
+        long[] oldBalances = balances;
+        long[] oldUpdateMillis = updateMillis;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) {
+                int slot = slotFor(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                balances[slot] = oldBalances[i];
+                updateMillis[slot] = oldUpdateMillis[i];
+            }
+        }
+        generation++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        balances = new long[capacity];
+        updateMillis = new long[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 잔액 변경을 PointJournal 에 남기는 UserPointTable
+ * - 쓰기는 원래 테이블에 반영한 뒤, 테이블이 돌려준 잔액/갱신 시각을 저널에 기록합니다.
+ * - 조회는 저널에 기록이 있는 유저라면 저널의 최신 잔액을 반환하고(재시작 후에도 유지), 없으면 원래 테이블을 읽습니다.
+ * - 원래 테이블은 변경하지 않고 공개된 API 만 사용합니다.
+ */
+public class JournaledUserPointTable extends UserPointTable {
+
+    private final UserPointTable delegate;
+    private final PointJournal pointJournal;
+
+    public JournaledUserPointTable(UserPointTable delegate, PointJournal pointJournal) {
+        this.delegate = delegate;
+        this.pointJournal = pointJournal;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        UserPoint journaled = pointJournal.find(id);
+        return journaled != null ? journaled : delegate.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint updated = delegate.insertOrUpdate(id, amount);
+        pointJournal.append(id, updated.point(), updated.updateMillis());
+        return updated;
+    }
+}
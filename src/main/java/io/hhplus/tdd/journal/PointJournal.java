@@ -0,0 +1,503 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 잔액 변경 저널 (memory-mapped append-only 파일 + 주기적 스냅샷)
+ * - 잔액이 바뀔 때마다 32바이트 고정 크기 기록(userId, 잔액, 갱신 시각, checksum)을 저널 파일 끝에 추가합니다.
+ *   저널은 segmentSize 단위 파일(journal-{시작 순번}.log)로 나뉘며 mmap 으로 씁니다.
+ * - fsync 는 syncInterval 마다 새로 쓴 구간만 모아서 합니다. 프로세스만 죽는 경우에는 OS 페이지 캐시에 남아 유실되지 않고,
+ *   OS/전원 장애 시에는 마지막 syncInterval 동안의 기록을 잃을 수 있습니다. (0 이면 기록마다 fsync)
+ * - 최신 잔액은 BalanceMap 에 유지하고, snapshotInterval 마다 스냅샷(snapshot-{재생 시작 순번}.snap)으로 저장한 뒤
+ *   스냅샷 이전 기록만 담긴 저널 파일을 지웁니다. 스냅샷은 기록을 멈추지 않고 나눠서 읽으며,
+ *   읽는 동안 바뀐 잔액은 재생 시작 순번 이후의 저널에 모두 남아 있으므로 복구 결과는 정확합니다.
+ * - 시작할 때 가장 최근 스냅샷을 읽고, 그 이후의 저널을 checksum 이 맞는 마지막 기록까지 재생한 뒤 새 저널 파일에 이어서 기록합니다.
+ * - 기록은 하나의 락으로 직렬화됩니다. (기록 한 건은 메모리 복사뿐이라 테이블 호출에 비해 무시할 수준)
+ */
+public class PointJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+    static final int RECORD_SIZE = 32;
+    private static final int SNAPSHOT_MAGIC = 0x50534E50;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = 16;
+    private static final int SNAPSHOT_ENTRY_SIZE = 24;
+    private static final int SNAPSHOT_TRAILER_SIZE = 12;
+    private static final int SNAPSHOT_CHUNK = 1 << 16;
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean syncEveryAppend;
+    private final ScheduledExecutorService scheduler;
+
+    // 아래 상태는 lock 으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CRC32C checksum = new CRC32C();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private BalanceMap balances;
+    private MappedByteBuffer segment;
+    private int position;
+    private int syncedPosition;
+    private long nextSeq;
+    private boolean closed;
+
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    public PointJournal(PointJournalProperties properties) {
+        this.directory = properties.directory();
+        this.segmentBytes = (int) (properties.segmentSize().toBytes() / RECORD_SIZE * RECORD_SIZE);
+        this.syncEveryAppend = properties.syncInterval().isZero();
+        this.balances = new BalanceMap(properties.expectedUsers());
+        try {
+            recover(properties.expectedUsers());
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널 복구에 실패했습니다. directory=" + directory, e);
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!syncEveryAppend) {
+            long syncMillis = Math.max(1, properties.syncInterval().toMillis());
+            scheduler.scheduleAtFixedRate(() -> runQuietly("fsync", this::sync), syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        }
+        long snapshotMillis = properties.snapshotInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> runQuietly("스냅샷", this::snapshot), snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 잔액 변경 기록
+    public void append(long userId, long balance, long updateMillis) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("포인트 저널이 닫혔습니다.");
+            }
+            if (userId == 0L) {
+                throw new IllegalArgumentException("userId 0 은 저널에 기록할 수 없습니다.");
+            }
+            if (position + RECORD_SIZE > segment.capacity()) {
+                roll();
+            }
+            long seq = nextSeq;
+            writeRecord(scratchBuffer, userId, balance, updateMillis, seq);
+            segment.put(position, scratch, 0, RECORD_SIZE);
+            if (syncEveryAppend) {
+                segment.force(position, RECORD_SIZE);
+                syncedPosition = position + RECORD_SIZE;
+            }
+            position += RECORD_SIZE;
+            nextSeq = seq + 1;
+            balances.put(userId, balance, updateMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널 기록에 실패했습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 저널에 기록된 최신 잔액 (기록이 없는 유저면 null)
+    public UserPoint find(long userId) {
+        lock.lock();
+        try {
+            int slot = balances.indexOf(userId);
+            return slot < 0 ? null : new UserPoint(userId, balances.balanceAt(slot), balances.updateMillisAt(slot));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 아직 fsync 하지 않은 구간을 디스크에 반영
+    public void sync() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            target = segment;
+            from = syncedPosition;
+            to = position;
+            syncedPosition = to;
+        } finally {
+            lock.unlock();
+        }
+        if (to > from) {
+            target.force(from, to - from);
+        }
+    }
+
+    // 현재 잔액 맵을 스냅샷으로 저장하고, 더 이상 필요 없는 저널/스냅샷 파일을 정리
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long replayFrom;
+            lock.lock();
+            try {
+                replayFrom = nextSeq;
+            } finally {
+                lock.unlock();
+            }
+            Path temp = directory.resolve(SNAPSHOT_PREFIX + sequenceName(replayFrom) + TEMP_SUFFIX);
+            long count;
+            // 읽는 도중 맵이 재배치되면 처음부터 다시 읽는다.
+            while ((count = writeSnapshot(temp, replayFrom)) < 0) {
+                log.debug("스냅샷 작성 중 잔액 맵이 재배치되어 다시 작성합니다.");
+            }
+            Path target = directory.resolve(SNAPSHOT_PREFIX + sequenceName(replayFrom) + SNAPSHOT_SUFFIX);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteObsoleteFiles(replayFrom);
+            log.info("포인트 저널 스냅샷 저장: users={}, replayFrom={}", count, replayFrom);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널 스냅샷 저장에 실패했습니다.", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    public int userCount() {
+        lock.lock();
+        try {
+            return balances.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다음 기록의 순번 (= 지금까지 기록된 수, 스냅샷으로 정리된 것 포함)
+    public long nextSequence() {
+        lock.lock();
+        try {
+            return nextSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 기록을 막고 fsync 한 뒤 스냅샷을 남긴다. (다음 시작 시 재생할 저널이 없도록)
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        stopScheduler();
+        sync();
+        snapshot();
+    }
+
+    // fsync/스냅샷 없이 멈춤 (비정상 종료 재현용)
+    void halt() {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        stopScheduler();
+    }
+
+    private void recover(int expectedUsers) throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> temps = Files.list(directory)) {
+            for (Path temp : temps.filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.delete(temp);
+            }
+        }
+
+        // 가장 최근의 온전한 스냅샷부터 읽는다.
+        long replayFrom = 0L;
+        List<Path> snapshots = listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            BalanceMap loaded = new BalanceMap(expectedUsers);
+            long loadedReplayFrom = readSnapshot(snapshots.get(i), loaded);
+            if (loadedReplayFrom >= 0) {
+                balances = loaded;
+                replayFrom = loadedReplayFrom;
+                break;
+            }
+            log.warn("손상된 스냅샷을 건너뜁니다: {}", snapshots.get(i));
+        }
+        int snapshotUsers = balances.size();
+
+        // 스냅샷 이후의 저널 재생
+        long replayed = 0L;
+        nextSeq = replayFrom;
+        List<Path> segments = listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i < segments.size(); i++) {
+            long startSeq = sequenceOf(segments.get(i), SEGMENT_PREFIX, SEGMENT_SUFFIX);
+            boolean last = i == segments.size() - 1;
+            if (!last && sequenceOf(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= replayFrom) {
+                continue;
+            }
+            MappedByteBuffer mapped = map(segments.get(i));
+            int offset = (int) (Math.max(0L, replayFrom - startSeq) * RECORD_SIZE);
+            while (offset + RECORD_SIZE <= mapped.capacity()) {
+                long seq = startSeq + offset / RECORD_SIZE;
+                if (!readRecord(mapped, offset, seq)) {
+                    break;
+                }
+                balances.put(scratchBuffer.getLong(0), scratchBuffer.getLong(8), scratchBuffer.getLong(16));
+                replayed++;
+                offset += RECORD_SIZE;
+            }
+            if (last) {
+                nextSeq = Math.max(replayFrom, startSeq + offset / RECORD_SIZE);
+            } else if (offset + RECORD_SIZE <= mapped.capacity()) {
+                log.warn("저널 파일 {} 의 {}번째 기록부터 읽을 수 없어 건너뜁니다.", segments.get(i), offset / RECORD_SIZE);
+            }
+        }
+        // 마지막 파일의 유효한 기록 뒤에는 장애 시점에 일부만 반영된 페이지가 남아 있을 수 있으므로 이어 쓰지 않고 새 파일에서 시작한다.
+        // (같은 이름의 파일이 있다면 유효한 기록이 하나도 없는 파일)
+        Files.deleteIfExists(segmentPath(nextSeq));
+        roll();
+        log.info("포인트 저널 복구 완료: 스냅샷 {}명, 저널 {}건 재생, 유저 {}명, {}ms",
+                snapshotUsers, replayed, balances.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // 새 저널 파일로 넘어감 (이전 파일은 끝까지 fsync)
+    private void roll() throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+        try (FileChannel channel = FileChannel.open(segmentPath(nextSeq), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        position = 0;
+        syncedPosition = 0;
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private Path segmentPath(long startSeq) {
+        return directory.resolve(SEGMENT_PREFIX + sequenceName(startSeq) + SEGMENT_SUFFIX);
+    }
+
+    private void writeRecord(ByteBuffer record, long userId, long balance, long updateMillis, long seq) {
+        record.putLong(0, userId).putLong(8, balance).putLong(16, updateMillis).putLong(24, seq);
+        checksum.reset();
+        checksum.update(scratch, 0, RECORD_SIZE);
+        // checksum 에 순번을 포함해, 다른 위치의 기록이나 0 으로 채워진 구간은 유효하지 않게 한다.
+        record.putInt(24, (int) checksum.getValue()).putInt(28, 0);
+    }
+
+    // offset 의 기록을 scratch 로 읽고 checksum 을 확인
+    private boolean readRecord(MappedByteBuffer source, int offset, long seq) {
+        source.get(offset, scratch, 0, RECORD_SIZE);
+        int stored = scratchBuffer.getInt(24);
+        scratchBuffer.putLong(24, seq);
+        checksum.reset();
+        checksum.update(scratch, 0, RECORD_SIZE);
+        return stored == (int) checksum.getValue();
+    }
+
+    // 스냅샷 파일 작성 (header: magic, version, replayFrom / 항목: userId, 잔액, 갱신 시각 / trailer: 항목 수, checksum)
+    private long writeSnapshot(Path temp, long replayFrom) throws IOException {
+        long[] userIds = new long[SNAPSHOT_CHUNK];
+        long[] points = new long[SNAPSHOT_CHUNK];
+        long[] millis = new long[SNAPSHOT_CHUNK];
+        CRC32C fileChecksum = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+            buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(replayFrom);
+
+            long count = 0L;
+            int generation = -1;
+            int slot = 0;
+            while (true) {
+                int n = 0;
+                lock.lock();
+                try {
+                    if (generation == -1) {
+                        generation = balances.generation();
+                    } else if (generation != balances.generation()) {
+                        return -1L;
+                    }
+                    int end = Math.min(balances.capacity(), slot + SNAPSHOT_CHUNK);
+                    if (slot >= end) {
+                        break;
+                    }
+                    for (; slot < end; slot++) {
+                        long userId = balances.keyAt(slot);
+                        if (userId != 0L) {
+                            userIds[n] = userId;
+                            points[n] = balances.balanceAt(slot);
+                            millis[n] = balances.updateMillisAt(slot);
+                            n++;
+                        }
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                for (int i = 0; i < n; i++) {
+                    if (buffer.remaining() < SNAPSHOT_ENTRY_SIZE) {
+                        flush(buffer, channel, fileChecksum);
+                    }
+                    buffer.putLong(userIds[i]).putLong(points[i]).putLong(millis[i]);
+                }
+                count += n;
+            }
+
+            if (buffer.remaining() < SNAPSHOT_TRAILER_SIZE) {
+                flush(buffer, channel, fileChecksum);
+            }
+            buffer.putLong(count);
+            flush(buffer, channel, fileChecksum);
+            buffer.putInt((int) fileChecksum.getValue());
+            flush(buffer, channel, null);
+            channel.force(true);
+            return count;
+        }
+    }
+
+    private void flush(ByteBuffer buffer, FileChannel channel, CRC32C fileChecksum) throws IOException {
+        buffer.flip();
+        if (fileChecksum != null) {
+            fileChecksum.update(buffer.duplicate());
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // 스냅샷을 target 에 읽어 재생 시작 순번을 반환 (손상되었으면 -1)
+    private long readSnapshot(Path path, BalanceMap target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long body = size - SNAPSHOT_HEADER_SIZE - SNAPSHOT_TRAILER_SIZE;
+            if (body < 0 || body % SNAPSHOT_ENTRY_SIZE != 0) {
+                return -1L;
+            }
+            CRC32C fileChecksum = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE / SNAPSHOT_ENTRY_SIZE * SNAPSHOT_ENTRY_SIZE);
+
+            readFully(channel, buffer, SNAPSHOT_HEADER_SIZE, fileChecksum);
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                return -1L;
+            }
+            long replayFrom = buffer.getLong();
+
+            long entries = body / SNAPSHOT_ENTRY_SIZE;
+            long remaining = entries;
+            while (remaining > 0) {
+                int n = (int) Math.min(remaining, buffer.capacity() / SNAPSHOT_ENTRY_SIZE);
+                readFully(channel, buffer, n * SNAPSHOT_ENTRY_SIZE, fileChecksum);
+                for (int i = 0; i < n; i++) {
+                    target.put(buffer.getLong(), buffer.getLong(), buffer.getLong());
+                }
+                remaining -= n;
+            }
+
+            readFully(channel, buffer, Long.BYTES, fileChecksum);
+            long count = buffer.getLong();
+            readFully(channel, buffer, Integer.BYTES, null);
+            int stored = buffer.getInt();
+            if (count != entries || stored != (int) fileChecksum.getValue()) {
+                return -1L;
+            }
+            return replayFrom;
+        }
+    }
+
+    private void readFully(FileChannel channel, ByteBuffer buffer, int length, CRC32C fileChecksum) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("스냅샷 파일이 예상보다 짧습니다.");
+            }
+        }
+        buffer.flip();
+        if (fileChecksum != null) {
+            fileChecksum.update(buffer.duplicate());
+        }
+    }
+
+    // 스냅샷 이전 기록만 담긴 저널 파일과 이전 스냅샷 삭제 (현재 기록 중인 파일은 남김)
+    private void deleteObsoleteFiles(long replayFrom) throws IOException {
+        List<Path> segments = listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (sequenceOf(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= replayFrom) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+        for (Path snapshot : listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (sequenceOf(snapshot, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < replayFrom) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    // 이름의 순번 순서로 정렬된 파일 목록 (순번은 0 으로 채운 고정 길이라 이름순 = 순번순)
+    private List<Path> listFiles(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(prefix) && name.endsWith(suffix);
+            }).sorted().toList();
+        }
+    }
+
+    private static long sequenceOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static String sequenceName(long seq) {
+        return String.format("%020d", seq);
+    }
+
+    private void stopScheduler() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runQuietly(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            log.error("포인트 저널 {} 실패", task, e);
+        }
+    }
+}
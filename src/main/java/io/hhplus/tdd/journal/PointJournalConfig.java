@@ -0,0 +1,26 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.database.UserPointTable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// point.journal.enabled=true 일 때만 저널을 열고, UserPointTable 대신 저널을 거치는 테이블을 주입
+@Configuration
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+public class PointJournalConfig {
+
+    // 종료 시 close() 로 fsync 후 스냅샷을 남긴다. (내역 기록기 등 SmartLifecycle 이 멈춘 뒤 호출됨)
+    @Bean(destroyMethod = "close")
+    public PointJournal pointJournal(PointJournalProperties properties) {
+        return new PointJournal(properties);
+    }
+
+    @Bean
+    @Primary
+    public UserPointTable journaledUserPointTable(@Qualifier("userPointTable") UserPointTable userPointTable, PointJournal pointJournal) {
+        return new JournaledUserPointTable(userPointTable, pointJournal);
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 잔액 저널 설정
+ * - enabled : 저널 사용 여부 (끄면 기존처럼 메모리에만 보관)
+ * - directory : 저널/스냅샷 파일 위치
+ * - segmentSize : 저널 파일 하나의 크기 (가득 차면 다음 파일로 넘어감, 최대 1GB)
+ * - syncInterval : 저널을 디스크에 fsync 하는 주기 (0 이면 기록할 때마다 fsync)
+ * - snapshotInterval : 잔액 스냅샷 주기 (종료 시에도 한 번 저장)
+ * - expectedUsers : 잔액 맵의 초기 크기
+ */
+@ConfigurationProperties("point.journal")
+public record PointJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("256MB") DataSize segmentSize,
+        @DefaultValue("10ms") Duration syncInterval,
+        @DefaultValue("5m") Duration snapshotInterval,
+        @DefaultValue("1000000") int expectedUsers
+) {
+
+    public PointJournalProperties {
+        if (directory == null) {
+            throw new IllegalArgumentException("point.journal.directory 를 지정해야 합니다.");
+        }
+        if (segmentSize == null || segmentSize.toBytes() < PointJournal.RECORD_SIZE || segmentSize.toBytes() > (1L << 30)) {
+            throw new IllegalArgumentException("point.journal.segment-size 는 " + PointJournal.RECORD_SIZE + "B 이상 1GB 이하여야 합니다.");
+        }
+        if (syncInterval == null || syncInterval.isNegative()) {
+            throw new IllegalArgumentException("point.journal.sync-interval 은 0 이상이어야 합니다.");
+        }
+        if (snapshotInterval == null || snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("point.journal.snapshot-interval 은 0보다 커야 합니다.");
+        }
+        if (expectedUsers <= 0) {
+            throw new IllegalArgumentException("point.journal.expected-users 는 0보다 커야 합니다.");
+        }
+    }
+}
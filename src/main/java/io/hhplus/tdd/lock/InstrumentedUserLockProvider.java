@@ -0,0 +1,41 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+/**
+ * 락 획득 대기 시간과 경합 횟수를 기록하는 UserLockProvider
+ * 먼저 tryLock 으로 바로 잡아 보고, 실패한 경우에만 경합으로 세고 실제로 기다린 시간을 잽니다.
+ * 바로 잡은 경우는 대기 시간 0 으로 기록하므로 point.lock.wait 의 count 는 전체 획득 수가 됩니다.
+ */
+public class InstrumentedUserLockProvider implements UserLockProvider {
+
+    private final UserLockProvider delegate;
+    private final PointMetrics pointMetrics;
+
+    public InstrumentedUserLockProvider(UserLockProvider delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public void lock(long userId) {
+        if (delegate.tryLock(userId)) {
+            pointMetrics.recordLockWait(0L);
+            return;
+        }
+        pointMetrics.recordLockContention();
+        long start = System.nanoTime();
+        delegate.lock(userId);
+        pointMetrics.recordLockWait(System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean tryLock(long userId) {
+        return delegate.tryLock(userId);
+    }
+
+    @Override
+    public void unlock(long userId) {
+        delegate.unlock(userId);
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 참조 카운트 기반 유저 락
+ * 락을 잡고 있거나 기다리는 스레드 수를 세고, 0 이 되면 맵에서 제거하므로
+ * 맵 크기는 지금 경합 중인 유저 수만큼만 유지됩니다.
+ */
+public class RefCountedUserLockProvider implements UserLockProvider {
+
+    private final ConcurrentHashMap<Long, RefCountedLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public void lock(long userId) {
+        acquire(userId).lock.lock();
+    }
+
+    @Override
+    public boolean tryLock(long userId) {
+        if (acquire(userId).lock.tryLock()) {
+            return true;
+        }
+        release(userId);
+        return false;
+    }
+
+    @Override
+    public void unlock(long userId) {
+        RefCountedLock refCountedLock = locks.get(userId);
+        if (refCountedLock == null) {
+            throw new IllegalMonitorStateException("잡지 않은 유저 락입니다. userId=" + userId);
+        }
+        refCountedLock.lock.unlock();
+        release(userId);
+    }
+
+    // 현재 유지 중인 락 개수
+    public int size() {
+        return locks.size();
+    }
+
+    // 참조 카운트 증가는 compute 안에서 처리되어 제거와 경쟁하지 않는다.
+    private RefCountedLock acquire(long userId) {
+        return locks.compute(userId, (k, v) -> {
+            RefCountedLock current = v == null ? new RefCountedLock() : v;
+            current.refCount++;
+            return current;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (k, v) -> --v.refCount == 0 ? null : v);
+    }
+
+    private static final class RefCountedLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int refCount;
+    }
+}
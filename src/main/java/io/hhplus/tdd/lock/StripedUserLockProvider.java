@@ -0,0 +1,53 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 락 배열 기반 유저 락
+ * 유저 수와 상관없이 메모리 사용량이 일정하지만, 같은 stripe 에 걸린 다른 유저끼리는 서로 기다릴 수 있습니다.
+ */
+public class StripedUserLockProvider implements UserLockProvider {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedUserLockProvider(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripe 개수는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void lock(long userId) {
+        stripeFor(userId).lock();
+    }
+
+    @Override
+    public boolean tryLock(long userId) {
+        return stripeFor(userId).tryLock();
+    }
+
+    @Override
+    public void unlock(long userId) {
+        stripeFor(userId).unlock();
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    private ReentrantLock stripeFor(long userId) {
+        // 연속된 userId 가 인접 stripe 에 몰리지 않도록 섞는다.
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & mask];
+    }
+}
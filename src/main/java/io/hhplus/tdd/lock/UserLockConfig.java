@@ -0,0 +1,18 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserLockConfig {
+
+    @Bean
+    public UserLockProvider userLockProvider(UserLockProperties properties, PointMetrics pointMetrics) {
+        UserLockProvider provider = switch (properties.mode()) {
+            case STRIPED -> new StripedUserLockProvider(properties.stripes());
+            case REF_COUNTED -> new RefCountedUserLockProvider();
+        };
+        return new InstrumentedUserLockProvider(provider, pointMetrics);
+    }
+}
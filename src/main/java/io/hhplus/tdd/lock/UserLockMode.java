@@ -0,0 +1,10 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저 락 방식
+ * - STRIPED : 고정 크기 락 배열을 userId 해시로 나눠 사용 (메모리 고정, 다른 유저끼리 락을 공유할 수 있음)
+ * - REF_COUNTED : 유저마다 락을 만들고, 잡고 있거나 기다리는 스레드가 없으면 제거
+ */
+public enum UserLockMode {
+    STRIPED, REF_COUNTED
+}
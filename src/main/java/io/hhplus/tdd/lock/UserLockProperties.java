@@ -0,0 +1,25 @@
+package io.hhplus.tdd.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 락 설정
+ * - mode : 락 방식 (STRIPED / REF_COUNTED)
+ * - stripes : STRIPED 방식의 락 개수 (2의 거듭제곱으로 올림)
+ */
+@ConfigurationProperties("point.lock")
+public record UserLockProperties(
+        @DefaultValue("REF_COUNTED") UserLockMode mode,
+        @DefaultValue("1024") int stripes
+) {
+
+    public UserLockProperties {
+        if (mode == null) {
+            throw new IllegalArgumentException("point.lock.mode 를 지정해야 합니다.");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("point.lock.stripes 는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 유저 단위 락 제공자
+ * 같은 userId 에 대한 lock/unlock 은 항상 같은 스레드에서 짝을 맞춰 호출해야 합니다.
+ */
+public interface UserLockProvider {
+
+    void lock(long userId);
+
+    // 기다리지 않고 바로 잡을 수 있을 때만 잡는다.
+    boolean tryLock(long userId);
+
+    void unlock(long userId);
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.admission.UserAdmission;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시/내역 기록기/요청 수락 상태를 scrape 시점에 읽어 노출
+ * 요청 경로에서는 아무것도 기록하지 않습니다.
+ */
+@Component
+public class PointMeterBinder implements MeterBinder {
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserAdmission userAdmission;
+
+    public PointMeterBinder(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, UserAdmission userAdmission) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userAdmission = userAdmission;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().hits())
+                .description("포인트 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().misses())
+                .description("포인트 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.stats().evictions())
+                .description("포인트 캐시에서 제거된 항목 수")
+                .register(registry);
+        FunctionCounter.builder("point.cache.coalesced.reads", userPointCache, cache -> cache.stats().coalescedReads())
+                .description("진행 중인 테이블 조회를 함께 기다려 아낀 selectById 호출 수")
+                .register(registry);
+        Gauge.builder("point.cache.size", userPointCache, cache -> cache.stats().size())
+                .description("포인트 캐시 항목 수")
+                .register(registry);
+
+        Gauge.builder("point.history.queue.depth", pointHistoryWriter, writer -> writer.stats().queueDepth())
+                .description("기록 대기 중인 포인트 내역 수")
+                .register(registry);
+        Gauge.builder("point.history.queue.lag", pointHistoryWriter, writer -> writer.stats().lagMillis())
+                .description("가장 오래 기다린 내역의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("point.history.written", pointHistoryWriter, writer -> writer.stats().written())
+                .description("기록 완료된 포인트 내역 수")
+                .register(registry);
+
+        Gauge.builder("point.admission.in.flight", userAdmission, UserAdmission::inFlight)
+                .description("처리/대기 중인 충전/사용 요청 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,170 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.admission.AdmissionRejectReason;
+import io.hhplus.tdd.point.ValidationFailureReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 hot path 계측
+ * - 모든 Timer/Counter 는 생성 시점에 태그별로 미리 등록해 두고 배열로 찾으므로, 기록할 때 태그 조회나 객체 생성이 없습니다.
+ * - 측정은 호출하는 쪽에서 System.nanoTime() 차이로 계산해 넘깁니다. (Timer.Sample 을 만들지 않음)
+ */
+@Component
+public class PointMetrics {
+
+    // PointService 연산
+    public enum Operation {
+        GET_POINT("get_point"),
+        GET_HISTORIES("get_histories"),
+        GET_SUMMARY("get_summary"),
+        GET_HISTORY_TOTALS("get_history_totals"),
+        CHARGE("charge"),
+        USE("use");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // 테이블 메소드
+    public enum TableCall {
+        USER_POINT_SELECT_BY_ID("user_point", "selectById"),
+        USER_POINT_INSERT_OR_UPDATE("user_point", "insertOrUpdate"),
+        POINT_HISTORY_INSERT("point_history", "insert");
+
+        private final String table;
+        private final String method;
+
+        TableCall(String table, String method) {
+            this.table = table;
+            this.method = method;
+        }
+    }
+
+    private final Timer[] operationTimers;
+    private final Timer[] tableTimers;
+    private final Counter[] validationFailures;
+    private final Timer lockWait;
+    private final Counter lockContention;
+    private final Counter optimisticConflicts;
+    private final Counter[] admissionRejections;
+    private final Counter idempotentReplays;
+    private final Counter partitionForwards;
+    private final Counter partitionHandoffs;
+    private final Counter feedStoreReads;
+
+    public PointMetrics(MeterRegistry registry) {
+        Operation[] operations = Operation.values();
+        this.operationTimers = new Timer[operations.length];
+        for (Operation operation : operations) {
+            operationTimers[operation.ordinal()] = Timer.builder("point.operation")
+                    .description("PointService 연산 처리 시간")
+                    .tag("operation", operation.tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        TableCall[] tableCalls = TableCall.values();
+        this.tableTimers = new Timer[tableCalls.length];
+        for (TableCall tableCall : tableCalls) {
+            tableTimers[tableCall.ordinal()] = Timer.builder("point.table.call")
+                    .description("테이블 메소드 호출 수와 처리 시간")
+                    .tag("table", tableCall.table)
+                    .tag("method", tableCall.method)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        ValidationFailureReason[] reasons = ValidationFailureReason.values();
+        this.validationFailures = new Counter[reasons.length];
+        for (ValidationFailureReason reason : reasons) {
+            validationFailures[reason.ordinal()] = Counter.builder("point.validation.failures")
+                    .description("검증 실패 수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry);
+        }
+
+        this.lockWait = Timer.builder("point.lock.wait")
+                .description("유저 락 획득까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.lockContention = Counter.builder("point.lock.contention")
+                .description("유저 락을 바로 잡지 못하고 기다린 횟수")
+                .register(registry);
+        this.optimisticConflicts = Counter.builder("point.optimistic.conflicts")
+                .description("OPTIMISTIC 모드에서 CAS 충돌로 다시 시도한 횟수")
+                .register(registry);
+
+        AdmissionRejectReason[] rejectReasons = AdmissionRejectReason.values();
+        this.admissionRejections = new Counter[rejectReasons.length];
+        for (AdmissionRejectReason reason : rejectReasons) {
+            admissionRejections[reason.ordinal()] = Counter.builder("point.admission.rejected")
+                    .description("한도를 넘어 바로 거절(429)한 충전/사용 요청 수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry);
+        }
+        this.idempotentReplays = Counter.builder("point.idempotency.replays")
+                .description("같은 Idempotency-Key 의 재시도에 보관한 결과를 돌려준 횟수 (처리하지 않은 충전/사용 수)")
+                .register(registry);
+        this.partitionForwards = Counter.builder("point.partition.forwards")
+                .description("다른 노드가 소유한 유저라 소유 노드로 전달한 요청 수")
+                .register(registry);
+        this.partitionHandoffs = Counter.builder("point.partition.handoffs")
+                .description("노드 구성이 바뀐 뒤 이전 소유 노드에서 넘겨받은 유저 수")
+                .register(registry);
+        this.feedStoreReads = Counter.builder("point.feed.store.reads")
+                .description("변경 피드에서 링 버퍼보다 뒤처진 cursor 를 내역 저장소에서 읽은 횟수")
+                .register(registry);
+    }
+
+    public void recordOperation(Operation operation, long elapsedNanos) {
+        operationTimers[operation.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTableCall(TableCall tableCall, long elapsedNanos) {
+        tableTimers[tableCall.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordValidationFailure(ValidationFailureReason reason) {
+        validationFailures[reason.ordinal()].increment();
+    }
+
+    public void recordLockWait(long elapsedNanos) {
+        lockWait.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockContention() {
+        lockContention.increment();
+    }
+
+    public void recordOptimisticConflict() {
+        optimisticConflicts.increment();
+    }
+
+    public void recordAdmissionRejected(AdmissionRejectReason reason) {
+        admissionRejections[reason.ordinal()].increment();
+    }
+
+    public void recordIdempotentReplay() {
+        idempotentReplays.increment();
+    }
+
+    public void recordPartitionForward() {
+        partitionForwards.increment();
+    }
+
+    public void recordPartitionHandoff() {
+        partitionHandoffs.increment();
+    }
+
+    public void recordFeedStoreRead() {
+        feedStoreReads.increment();
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.partition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 유저 id 를 소유 노드로 나누는 consistent hash 링 (생성 후 변경하지 않음)
+ * - 노드마다 virtualNodes 개의 점을 링(64비트 해시 공간)에 올리고, 유저 id 의 해시에서 시계 방향으로 처음 만나는 점의 노드가 소유합니다.
+ * - 노드를 하나 추가하면 새 노드가 가져가는 유저(약 1/N)만 소유 노드가 바뀌고, 나머지 유저는 그대로입니다.
+ * - 같은 노드 구성이면 어느 인스턴스에서 만들어도 같은 결과가 나옵니다. (노드 순서와 무관)
+ */
+public final class ConsistentHashRing {
+
+    private final List<PartitionNode> nodes;
+    // 해시 오름차순으로 정렬된 점과 그 점의 노드 (nodes 의 인덱스)
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(List<PartitionNode> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(nodes);
+        int size = this.nodes.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        int index = 0;
+        for (int n = 0; n < this.nodes.size(); n++) {
+            long nodeHash = hash(this.nodes.get(n).id());
+            for (int v = 0; v < virtualNodes; v++) {
+                entries[index++] = new long[]{mix(nodeHash + v * 0x9E3779B97F4A7C15L), n};
+            }
+        }
+        // 해시가 같으면 노드 id 순으로 정해 구성 순서와 무관하게 만든다.
+        Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compareUnsigned(a[0], b[0])
+                : this.nodes.get((int) a[1]).id().compareTo(this.nodes.get((int) b[1]).id()));
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    public PartitionNode ownerOf(long userId) {
+        long hash = mix(userId);
+        // hash 이상인 첫 점 (없으면 링의 처음으로)
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return nodes.get(owners[low == points.length ? 0 : low]);
+    }
+
+    public List<PartitionNode> nodes() {
+        return nodes;
+    }
+
+    // 노드 id 의 64비트 FNV-1a
+    private static long hash(String id) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer - 연속된 유저 id 도 링 전체에 고르게 흩어지도록 섞는다.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
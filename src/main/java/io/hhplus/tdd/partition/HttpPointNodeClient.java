@@ -0,0 +1,138 @@
+package io.hhplus.tdd.partition;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistoryFilter;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.PointIdempotency;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 다른 노드의 공개 API(/point/...)와 내부 API(/internal/partition/...)를 HTTP 로 호출하는 클라이언트
+ * - 전달한 요청에는 X-Point-Forwarded-Hops 와(있으면) Idempotency-Key 헤더를, 내부 API 호출에는 X-Point-Internal-Token 헤더를 붙입니다.
+ * - 연결은 HttpClient 가 노드별로 재사용(keep-alive)합니다.
+ */
+@Component
+public class HttpPointNodeClient implements PointNodeClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final String internalToken;
+
+    public HttpPointNodeClient(ObjectMapper objectMapper, PartitionProperties properties) {
+        this.objectMapper = objectMapper;
+        this.timeout = properties.forwardTimeout();
+        this.internalToken = properties.internalToken();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public UserPoint getUserPoint(PartitionNode node, long userId, int hops) {
+        return send(node, "GET", "/point/" + userId, null, null, hops, UserPoint.class);
+    }
+
+    @Override
+    public PointHistoryPage getPointHistories(PartitionNode node, long userId, PointHistoryFilter filter, Long cursor, int limit, int hops) {
+        String query = "?limit=" + limit + (cursor == null ? "" : "&cursor=" + cursor) + filterQuery(filter);
+        return send(node, "GET", "/point/" + userId + "/histories" + query, null, null, hops, PointHistoryPage.class);
+    }
+
+    @Override
+    public PointHistoryTotals getPointHistoryTotals(PartitionNode node, long userId, PointHistoryFilter filter, int hops) {
+        String params = filterQuery(filter);
+        String query = params.isEmpty() ? "" : "?" + params.substring(1);
+        return send(node, "GET", "/point/" + userId + "/histories/totals" + query, null, null, hops, PointHistoryTotals.class);
+    }
+
+    @Override
+    public PointSummary getPointSummary(PartitionNode node, long userId, int recent, int hops) {
+        return send(node, "GET", "/point/" + userId + "/summary?recent=" + recent, null, null, hops, PointSummary.class);
+    }
+
+    @Override
+    public UserPoint execute(PartitionNode node, PointCommand command, String idempotencyKey, int hops) {
+        String action = command.type() == TransactionType.CHARGE ? "charge" : "use";
+        return send(node, "PATCH", "/point/" + command.userId() + "/" + action, String.valueOf(command.amount()), idempotencyKey, hops, UserPoint.class);
+    }
+
+    @Override
+    public PartitionHandoff handoff(PartitionNode node, long userId) {
+        return send(node, "POST", "/internal/partition/users/" + userId + "/handoff", null, null, 0, PartitionHandoff.class);
+    }
+
+    private <T> T send(PartitionNode node, String method, String path, String body, String idempotencyKey, int hops, Class<T> type) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(node.url() + path))
+                .timeout(timeout)
+                .header(PartitionedPointService.FORWARDED_HOPS, String.valueOf(hops))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (idempotencyKey != null) {
+            builder.header(PointIdempotency.HEADER, idempotencyKey);
+        }
+        if (path.startsWith("/internal/")) {
+            builder.header(PartitionInternalAuth.HEADER, internalToken);
+        }
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new PartitionUnavailableException("소유 노드에 연결할 수 없습니다. (node=" + node.id() + ")");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PartitionUnavailableException("소유 노드 응답을 기다리는 중 중단되었습니다. (node=" + node.id() + ")");
+        }
+
+        try {
+            if (response.statusCode() == 200) {
+                return objectMapper.readValue(response.body(), type);
+            }
+            throw new RemotePointException(response.statusCode(), readError(response));
+        } catch (IOException e) {
+            throw new PartitionUnavailableException("소유 노드의 응답을 읽을 수 없습니다. (node=" + node.id() + ")");
+        }
+    }
+
+    // 조건이 있는 항목만 "&from=...&to=...&type=..." 로
+    private static String filterQuery(PointHistoryFilter filter) {
+        StringBuilder query = new StringBuilder();
+        if (filter.from() != null) {
+            query.append("&from=").append(filter.from());
+        }
+        if (filter.to() != null) {
+            query.append("&to=").append(filter.to());
+        }
+        if (filter.type() != null) {
+            query.append("&type=").append(filter.type().name());
+        }
+        return query.toString();
+    }
+
+    private ErrorResponse readError(HttpResponse<String> response) {
+        String status = String.valueOf(response.statusCode());
+        try {
+            ErrorResponse error = objectMapper.readValue(response.body(), ErrorResponse.class);
+            if (error != null && error.message() != null) {
+                return error;
+            }
+        } catch (IOException ignored) {
+            // 본문이 ErrorResponse 가 아니면 상태 코드만 전달
+        }
+        return new ErrorResponse(status, "소유 노드에서 오류가 발생했습니다.");
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.partition;
+
+/**
+ * 파티션 내부 API 를 내부 토큰 없이(또는 다른 토큰으로) 호출한 경우 (403)
+ */
+public class PartitionAccessDeniedException extends RuntimeException {
+
+    public PartitionAccessDeniedException() {
+        super("파티션 내부 API 를 호출할 권한이 없습니다.");
+    }
+}
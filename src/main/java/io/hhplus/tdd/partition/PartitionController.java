@@ -0,0 +1,57 @@
+package io.hhplus.tdd.partition;
+
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 파티션 모드 내부 API - 노드 사이에서만 호출하므로 외부에 노출하지 않습니다.
+ * 모든 요청은 X-Point-Internal-Token 헤더로 내부 토큰을 보내야 하며, 없거나 다르면 403 으로 거절합니다.
+ */
+@RestController
+@RequestMapping("/internal/partition")
+public class PartitionController {
+
+    private final PartitionRouter partitionRouter;
+    private final PartitionedPointService partitionedPointService;
+    private final PartitionInternalAuth partitionInternalAuth;
+
+    public PartitionController(PartitionRouter partitionRouter, PartitionedPointService partitionedPointService, PartitionInternalAuth partitionInternalAuth) {
+        this.partitionRouter = partitionRouter;
+        this.partitionedPointService = partitionedPointService;
+        this.partitionInternalAuth = partitionInternalAuth;
+    }
+
+    @GetMapping
+    public PartitionStatus status(
+            @RequestHeader(value = PartitionInternalAuth.HEADER, required = false) String token
+    ) {
+        partitionInternalAuth.check(token);
+        return partitionRouter.status();
+    }
+
+    /**
+     * 노드 구성 변경 (노드 추가 시 기존 노드마다 호출)
+     */
+    @PutMapping("nodes")
+    public PartitionStatus updateNodes(
+            @RequestHeader(value = PartitionInternalAuth.HEADER, required = false) String token,
+            @RequestBody List<PartitionNode> nodes
+    ) {
+        partitionInternalAuth.check(token);
+        partitionRouter.updateNodes(nodes);
+        return partitionRouter.status();
+    }
+
+    /**
+     * 새 소유 노드가 유저를 넘겨받을 때 호출
+     */
+    @PostMapping("users/{id}/handoff")
+    public PartitionHandoff handoff(
+            @RequestHeader(value = PartitionInternalAuth.HEADER, required = false) String token,
+            @PathVariable long id
+    ) {
+        partitionInternalAuth.check(token);
+        return partitionedPointService.handoff(id);
+    }
+}
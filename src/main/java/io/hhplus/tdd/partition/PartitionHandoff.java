@@ -0,0 +1,15 @@
+package io.hhplus.tdd.partition;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 이전 소유 노드가 새 소유 노드에 넘겨주는 유저 상태 (잔액과 전체 내역, id 오름차순)
+ */
+public record PartitionHandoff(
+        UserPoint userPoint,
+        List<PointHistory> histories
+) {
+}
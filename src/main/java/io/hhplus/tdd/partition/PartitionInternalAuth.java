@@ -0,0 +1,30 @@
+package io.hhplus.tdd.partition;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 파티션 내부 API(/internal/partition/...) 호출 확인
+ * - 노드끼리 나눠 가진 point.partition.internal-token 을 X-Point-Internal-Token 헤더로 받아야 처리합니다.
+ * - 헤더가 없거나 다르면 PartitionAccessDeniedException(403) 을 던집니다. 비교는 길이 외의 정보가 시간 차로 드러나지 않도록 합니다.
+ */
+@Component
+public class PartitionInternalAuth {
+
+    public static final String HEADER = "X-Point-Internal-Token";
+
+    private final byte[] token;
+
+    public PartitionInternalAuth(PartitionProperties properties) {
+        this.token = properties.internalToken().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void check(String presented) {
+        if (token.length == 0 || presented == null
+                || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw new PartitionAccessDeniedException();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.partition;
+
+/**
+ * 파티션 모드의 서비스 인스턴스(노드)
+ * - id : 링에서 노드를 구분하는 이름 (바뀌면 그 노드가 소유한 유저가 모두 바뀜)
+ * - url : 다른 노드가 요청을 전달할 주소 (예: http://point-1:8080)
+ */
+public record PartitionNode(
+        String id,
+        String url
+) {
+}
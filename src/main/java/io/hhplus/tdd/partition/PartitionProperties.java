@@ -0,0 +1,84 @@
+package io.hhplus.tdd.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 파티션(여러 인스턴스) 배포 설정
+ * - enabled : 사용 여부 (끄면 모든 유저를 이 인스턴스에서 처리)
+ * - self : 이 인스턴스의 노드 id (nodes 중 하나)
+ * - nodes : 시작할 때의 노드 구성. 실행 중에는 PUT /internal/partition/nodes 로 바꿉니다.
+ * - previousNodes : 새로 추가되는 노드에만 지정하는, 추가되기 직전의 노드 구성 (이 구성의 소유 노드에서 유저를 넘겨받음)
+ * - virtualNodes : 노드마다 링에 올리는 가상 노드 수 (많을수록 유저가 고르게 나뉨)
+ * - forwardTimeout : 다른 노드로 전달한 요청의 제한 시간
+ * - maxHops : 한 요청이 노드 사이에서 전달될 수 있는 최대 횟수 (노드마다 구성이 다를 때 순환 방지)
+ * - handoffTimeout : 유저를 넘겨주기 전에 이전 구성으로 처리 중인 요청이 끝나기를 기다리는 시간
+ * - internalToken : 내부 API(/internal/partition/...) 호출에 쓰는, 노드끼리 나눠 가진 비밀 값 (사용 시 필수)
+ */
+@ConfigurationProperties("point.partition")
+public record PartitionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("") String self,
+        List<PartitionNode> nodes,
+        List<PartitionNode> previousNodes,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue("5s") Duration forwardTimeout,
+        @DefaultValue("2") int maxHops,
+        @DefaultValue("5s") Duration handoffTimeout,
+        @DefaultValue("") String internalToken
+) {
+
+    public PartitionProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+        previousNodes = previousNodes == null ? List.of() : List.copyOf(previousNodes);
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("point.partition.virtual-nodes 는 0보다 커야 합니다.");
+        }
+        if (forwardTimeout == null || forwardTimeout.isNegative() || forwardTimeout.isZero()) {
+            throw new IllegalArgumentException("point.partition.forward-timeout 은 0보다 커야 합니다.");
+        }
+        if (maxHops <= 0) {
+            throw new IllegalArgumentException("point.partition.max-hops 는 0보다 커야 합니다.");
+        }
+        if (handoffTimeout == null || handoffTimeout.isNegative() || handoffTimeout.isZero()) {
+            throw new IllegalArgumentException("point.partition.handoff-timeout 은 0보다 커야 합니다.");
+        }
+        if (enabled) {
+            if (internalToken == null || internalToken.isBlank()) {
+                throw new IllegalArgumentException("point.partition.internal-token 은 비어 있을 수 없습니다.");
+            }
+            validateNodes(self, nodes);
+            if (!previousNodes.isEmpty()) {
+                validateIds(previousNodes);
+            }
+        }
+    }
+
+    // self 가 포함된, id 가 겹치지 않는 노드 구성인지 확인
+    static void validateNodes(String self, List<PartitionNode> nodes) {
+        if (nodes == null || nodes.isEmpty()) {
+            throw new IllegalArgumentException("point.partition.nodes 는 비어 있을 수 없습니다.");
+        }
+        if (!validateIds(nodes).contains(self)) {
+            throw new IllegalArgumentException("point.partition.self 는 point.partition.nodes 중 하나여야 합니다.");
+        }
+    }
+
+    private static Set<String> validateIds(List<PartitionNode> nodes) {
+        Set<String> ids = new HashSet<>();
+        for (PartitionNode node : nodes) {
+            if (node == null || node.id() == null || node.id().isBlank() || node.url() == null || node.url().isBlank()) {
+                throw new IllegalArgumentException("point.partition.nodes 의 id 와 url 은 비어 있을 수 없습니다.");
+            }
+            if (!ids.add(node.id())) {
+                throw new IllegalArgumentException("point.partition.nodes 의 id 가 중복되었습니다: " + node.id());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.partition;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 파티션 모드에서 유저의 소유 노드를 정하는 라우터
+ * - 현재 노드 구성의 링과, 구성이 바뀌기 직전의 링(이전 소유 노드를 찾는 데 사용)을 함께 들고 있습니다.
+ * - 요청은 enter 로 그 시점의 구성(RingState)에 들어가서 소유 노드를 정하고, 로컬 처리가 끝나면 exit 합니다.
+ *   구성이 바뀐 뒤 유저를 넘겨줄 때는 이전 구성으로 들어와 처리 중인 요청이 모두 끝나기를 기다리므로, 넘겨준 뒤에 이전 구성으로 쓰는 요청이 없습니다.
+ * - 구성 변경은 한 번에 하나씩, 이전 변경의 유저 이동이 끝난 뒤에 합니다. (링은 직전 구성 하나만 기억)
+ */
+@Component
+public class PartitionRouter {
+
+    private final boolean enabled;
+    private final String self;
+    private final int virtualNodes;
+    private final long handoffTimeoutNanos;
+    private volatile RingState state;
+
+    public PartitionRouter(PartitionProperties properties) {
+        this.enabled = properties.enabled();
+        this.self = properties.self();
+        this.virtualNodes = properties.virtualNodes();
+        this.handoffTimeoutNanos = properties.handoffTimeout().toNanos();
+        // 새로 추가된 노드는 직전 구성(previousNodes)을 이전 링으로 두고 시작한다.
+        ConsistentHashRing previousRing = properties.previousNodes().isEmpty() ? null : new ConsistentHashRing(properties.previousNodes(), virtualNodes);
+        this.state = enabled ? new RingState(new ConsistentHashRing(properties.nodes(), virtualNodes), previousRing, null) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    // 노드 구성 변경 - 이 노드가 더 이상 소유하지 않는 유저는 새 소유 노드가 처음 요청을 받을 때 넘겨받는다.
+    public synchronized void updateNodes(List<PartitionNode> nodes) {
+        if (!enabled) {
+            throw new IllegalArgumentException("파티션 모드가 아닙니다.");
+        }
+        PartitionProperties.validateNodes(self, nodes);
+        RingState current = state;
+        current.retired = null;
+        state = new RingState(new ConsistentHashRing(nodes, virtualNodes), current.ring, current);
+    }
+
+    public PartitionStatus status() {
+        if (!enabled) {
+            return new PartitionStatus(false, self, List.of(), List.of(), 0);
+        }
+        RingState current = state;
+        return new PartitionStatus(true, self, current.ring.nodes(),
+                current.previousRing == null ? List.of() : current.previousRing.nodes(), current.adopted.size());
+    }
+
+    // 현재 구성에 들어간다. 반환한 상태는 처리가 끝나면 반드시 exit 한다.
+    RingState enter() {
+        while (true) {
+            RingState current = state;
+            current.active.increment();
+            if (current == state) {
+                return current;
+            }
+            // 들어가는 사이 구성이 바뀌었으면 새 구성으로 다시
+            current.active.decrement();
+        }
+    }
+
+    void exit(RingState ringState) {
+        ringState.active.decrement();
+    }
+
+    // 이전 구성으로 들어와 처리 중인 요청이 모두 끝날 때까지 대기
+    void awaitRetired(RingState ringState) {
+        RingState retired = ringState.retired;
+        if (retired == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + handoffTimeoutNanos;
+        while (retired.active.sum() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new PartitionUnavailableException("이전 노드 구성으로 처리 중인 요청이 끝나지 않았습니다. 잠시 후 다시 시도해주세요.");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        ringState.retired = null;
+    }
+
+    /**
+     * 한 노드 구성에서의 라우팅 상태
+     * - active : 이 구성으로 들어와 처리 중인 요청 수
+     * - adopted : 이 구성에서 이전 소유 노드로부터 넘겨받은 유저
+     */
+    final class RingState {
+        private final ConsistentHashRing ring;
+        private final ConsistentHashRing previousRing;
+        private final LongAdder active = new LongAdder();
+        private final Set<Long> adopted = ConcurrentHashMap.newKeySet();
+        // 직전 구성 (그 구성의 요청이 모두 끝났는지 확인한 뒤에는 null)
+        private volatile RingState retired;
+
+        RingState(ConsistentHashRing ring, ConsistentHashRing previousRing, RingState retired) {
+            this.ring = ring;
+            this.previousRing = previousRing;
+            this.retired = retired;
+        }
+
+        // 다른 노드가 소유하면 그 노드, 이 노드가 소유하면 null
+        PartitionNode remoteOwnerOf(long userId) {
+            PartitionNode owner = ring.ownerOf(userId);
+            return owner.id().equals(self) ? null : owner;
+        }
+
+        // 이 노드가 새로 소유하게 되어 아직 넘겨받지 않은 유저면 이전 소유 노드, 아니면 null
+        PartitionNode pendingPreviousOwnerOf(long userId) {
+            if (previousRing == null) {
+                return null;
+            }
+            PartitionNode previous = previousRing.ownerOf(userId);
+            if (previous.id().equals(self) || adopted.contains(userId)) {
+                return null;
+            }
+            return previous;
+        }
+
+        boolean isAdopted(long userId) {
+            return adopted.contains(userId);
+        }
+
+        void markAdopted(long userId) {
+            adopted.add(userId);
+        }
+    }
+}
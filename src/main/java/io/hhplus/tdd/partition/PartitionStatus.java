@@ -0,0 +1,18 @@
+package io.hhplus.tdd.partition;
+
+import java.util.List;
+
+/**
+ * 파티션 라우팅 상태 (GET /internal/partition)
+ * - nodes : 현재 노드 구성
+ * - previousNodes : 직전 노드 구성 (구성을 바꾼 적이 없으면 빈 목록)
+ * - adoptedUsers : 현재 구성에서 이전 소유 노드로부터 넘겨받은 유저 수
+ */
+public record PartitionStatus(
+        boolean enabled,
+        String self,
+        List<PartitionNode> nodes,
+        List<PartitionNode> previousNodes,
+        int adoptedUsers
+) {
+}
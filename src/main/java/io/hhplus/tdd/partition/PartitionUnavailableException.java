@@ -0,0 +1,12 @@
+package io.hhplus.tdd.partition;
+
+/**
+ * 소유 노드에 요청을 전달하거나 유저를 넘겨받지 못한 경우 (503)
+ * - 소유 노드에 연결할 수 없음, 노드마다 구성이 달라 maxHops 를 넘음, 이전 소유 노드가 아직 구성을 바꾸지 않음 등
+ */
+public class PartitionUnavailableException extends RuntimeException {
+
+    public PartitionUnavailableException(String message) {
+        super(message);
+    }
+}
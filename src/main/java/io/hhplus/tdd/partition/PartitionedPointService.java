@@ -0,0 +1,246 @@
+package io.hhplus.tdd.partition;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistoryFilter;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.PointIdempotency;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 요청을 소유 노드에서 처리하도록 나누는 서비스 (point.partition.enabled=true)
+ * - 이 노드가 소유한 유저면 PointService 로 처리하고, 아니면 소유 노드에 그대로 전달합니다.
+ *   잔액과 내역은 소유 노드에만 있고, 같은 유저의 쓰기는 소유 노드의 유저 락으로만 순서가 정해집니다.
+ * - Idempotency-Key 는 소유 노드에서 확인하므로, 재시도가 다른 노드로 들어와도 한 번만 처리됩니다.
+ * - 노드가 추가되어 새로 소유하게 된 유저는 처음 요청을 받을 때 이전 소유 노드에서 잔액과 내역을 넘겨받은 뒤 처리합니다.
+ * - 파티션 모드가 아니면 모든 요청을 이 노드에서 처리합니다.
+ */
+@Service
+public class PartitionedPointService {
+
+    // 다른 노드에서 전달된 요청의 누적 전달 횟수
+    public static final String FORWARDED_HOPS = "X-Point-Forwarded-Hops";
+
+    private final PointService pointService;
+    private final PointIdempotency pointIdempotency;
+    private final PartitionRouter partitionRouter;
+    private final PointNodeClient pointNodeClient;
+    private final UserPointCache userPointCache;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserLockProvider userLockProvider;
+    private final PointMetrics pointMetrics;
+    private final int maxHops;
+
+    public PartitionedPointService(PointService pointService, PointIdempotency pointIdempotency, PartitionRouter partitionRouter, PointNodeClient pointNodeClient,
+                                   UserPointCache userPointCache, PointHistoryStore pointHistoryStore, PointHistoryWriter pointHistoryWriter,
+                                   UserLockProvider userLockProvider, PointMetrics pointMetrics, PartitionProperties properties) {
+        this.pointService = pointService;
+        this.pointIdempotency = pointIdempotency;
+        this.partitionRouter = partitionRouter;
+        this.pointNodeClient = pointNodeClient;
+        this.userPointCache = userPointCache;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userLockProvider = userLockProvider;
+        this.pointMetrics = pointMetrics;
+        this.maxHops = properties.maxHops();
+    }
+
+    public UserPoint getUserPoint(long userId, int hops) {
+        return route(userId, hops,
+                owner -> pointNodeClient.getUserPoint(owner, userId, hops + 1),
+                () -> pointService.getUserPoint(userId));
+    }
+
+    public PointHistoryPage getPointHistories(long userId, PointHistoryFilter filter, Long cursor, int limit, int hops) {
+        return route(userId, hops,
+                owner -> pointNodeClient.getPointHistories(owner, userId, filter, cursor, limit, hops + 1),
+                () -> pointService.getPointHistories(userId, filter, cursor, limit));
+    }
+
+    public PointHistoryTotals getPointHistoryTotals(long userId, PointHistoryFilter filter, int hops) {
+        return route(userId, hops,
+                owner -> pointNodeClient.getPointHistoryTotals(owner, userId, filter, hops + 1),
+                () -> pointService.getPointHistoryTotals(userId, filter));
+    }
+
+    public PointSummary getPointSummary(long userId, int recent, int hops) {
+        return route(userId, hops,
+                owner -> pointNodeClient.getPointSummary(owner, userId, recent, hops + 1),
+                () -> pointService.getPointSummary(userId, recent));
+    }
+
+    public UserPoint execute(PointCommand command, String idempotencyKey, int hops) {
+        long userId = command.userId();
+        return route(userId, hops,
+                owner -> pointNodeClient.execute(owner, command, idempotencyKey, hops + 1),
+                () -> pointIdempotency.execute(idempotencyKey, command, () -> switch (command.type()) {
+                    case CHARGE -> pointService.chargeUserPoint(userId, command.amount());
+                    case USE -> pointService.useUserPoint(userId, command.amount());
+                }));
+    }
+
+    // 일괄 처리용 (Idempotency-Key 없이, 이 노드로 들어온 요청)
+    public UserPoint chargeUserPoint(long userId, long amount) {
+        return execute(PointCommand.charge(userId, amount), null, 0);
+    }
+
+    public UserPoint useUserPoint(long userId, long amount) {
+        return execute(PointCommand.use(userId, amount), null, 0);
+    }
+
+    /*
+     * 비동기 버전 - 다른 노드로 전달하지 않으므로 이 노드가 소유한 유저만 처리합니다.
+     * 소유 여부는 받을 때 한 번, pointExecutor 에서 실행할 때 다시 확인하고, 실행이 끝날 때까지 그 구성에 머뭅니다.
+     * 그래서 대기 중에 구성이 바뀌면 실행하지 않고 거절하며, 넘겨주기(handoff)는 이미 실행 중인 작업이 끝나기를 기다립니다.
+     */
+    public CompletableFuture<UserPoint> getUserPointAsync(long userId) {
+        requireLocal(userId);
+        return pointService.supplyAsync(() -> executeLocal(userId, () -> pointService.getUserPoint(userId)));
+    }
+
+    public CompletableFuture<PointHistoryPage> getPointHistoriesAsync(long userId, Long cursor, int limit) {
+        requireLocal(userId);
+        return pointService.supplyAsync(() -> executeLocal(userId, () -> pointService.getPointHistories(userId, cursor, limit)));
+    }
+
+    public CompletableFuture<UserPoint> chargeUserPointAsync(long userId, long amount) {
+        requireLocal(userId);
+        return pointService.supplySerialAsync(userId, () -> executeLocal(userId, () -> pointService.chargeUserPoint(userId, amount)));
+    }
+
+    public CompletableFuture<UserPoint> useUserPointAsync(long userId, long amount) {
+        requireLocal(userId);
+        return pointService.supplySerialAsync(userId, () -> executeLocal(userId, () -> pointService.useUserPoint(userId, amount)));
+    }
+
+    // 다른 노드로 전달하지 않는 API(스트리밍, 비동기)용 - 이 노드가 소유하지 않은 유저면 소유 노드를 알려주며 거절
+    public void requireLocal(long userId) {
+        if (!partitionRouter.isEnabled()) {
+            return;
+        }
+        PartitionRouter.RingState state = partitionRouter.enter();
+        try {
+            rejectRemote(state, userId);
+        } finally {
+            partitionRouter.exit(state);
+        }
+    }
+
+    // 이 노드가 소유한 유저만 처리하고, 처리가 끝날 때까지 현재 구성에 머문다. (전달하지 않는 route)
+    private <T> T executeLocal(long userId, Supplier<T> local) {
+        if (!partitionRouter.isEnabled()) {
+            return local.get();
+        }
+        PartitionRouter.RingState state = partitionRouter.enter();
+        try {
+            rejectRemote(state, userId);
+            adopt(state, userId);
+            return local.get();
+        } finally {
+            partitionRouter.exit(state);
+        }
+    }
+
+    private static void rejectRemote(PartitionRouter.RingState state, long userId) {
+        PartitionNode owner = state.remoteOwnerOf(userId);
+        if (owner != null) {
+            throw new PartitionUnavailableException("다른 노드가 소유한 유저입니다. 소유 노드로 요청해주세요. (node=" + owner.id() + ", url=" + owner.url() + ")");
+        }
+    }
+
+    /*
+     * 이 노드가 더 이상 소유하지 않는 유저의 상태를 새 소유 노드에 넘겨준다.
+     * 이 노드의 구성이 아직 바뀌지 않았으면(여전히 소유) 거절하고, 이전 구성으로 처리 중인 요청이 끝나기를 기다린 뒤 넘겨준다.
+     * 넘겨준 내역은 이 노드의 전체 조회, 합계, 내보내기에서 빼고, 넘겨받는 쪽이 실패해 다시 요청하면 같은 상태를 돌려준다.
+     */
+    public PartitionHandoff handoff(long userId) {
+        if (!partitionRouter.isEnabled()) {
+            throw new IllegalArgumentException("파티션 모드가 아닙니다.");
+        }
+        PartitionRouter.RingState state = partitionRouter.enter();
+        try {
+            if (state.remoteOwnerOf(userId) == null) {
+                throw new PartitionUnavailableException("아직 이 노드가 소유한 유저입니다. 노드 구성을 먼저 갱신해주세요. (node=" + partitionRouter.self() + ")");
+            }
+            partitionRouter.awaitRetired(state);
+            userLockProvider.lock(userId);
+            try {
+                pointHistoryWriter.flush();
+                PartitionHandoff handoff = new PartitionHandoff(userPointCache.selectById(userId), pointHistoryStore.selectAllByUserId(userId));
+                pointHistoryStore.dropHistories(userId);
+                return handoff;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PartitionUnavailableException("내역 기록을 기다리는 중 중단되었습니다.");
+            } finally {
+                userLockProvider.unlock(userId);
+            }
+        } finally {
+            partitionRouter.exit(state);
+        }
+    }
+
+    private <T> T route(long userId, int hops, Function<PartitionNode, T> remote, Supplier<T> local) {
+        if (!partitionRouter.isEnabled()) {
+            return local.get();
+        }
+        PartitionNode owner;
+        PartitionRouter.RingState state = partitionRouter.enter();
+        try {
+            owner = state.remoteOwnerOf(userId);
+            if (owner == null) {
+                adopt(state, userId);
+                return local.get();
+            }
+        } finally {
+            partitionRouter.exit(state);
+        }
+        // 노드마다 구성이 달라 요청이 노드 사이를 돌고 있으면 중단
+        if (hops >= maxHops) {
+            throw new PartitionUnavailableException("노드 구성이 일치하지 않아 요청을 처리할 노드를 찾지 못했습니다. (node=" + partitionRouter.self() + ")");
+        }
+        pointMetrics.recordPartitionForward();
+        return remote.apply(owner);
+    }
+
+    /*
+     * 구성이 바뀌어 새로 소유하게 된 유저면, 처리 전에 이전 소유 노드에서 잔액과 내역을 넘겨받는다.
+     * 잔액은 0 이어도 그대로 쓰고, 내역은 이 노드에 남아 있던 내역(예전에 넘겨준 유저가 돌아온 경우)을 넘겨받은 내역으로 바꾼다.
+     * 내역은 원래 id(COLUMNAR)와 시각을 유지한 채 변경 피드로 다시 내보내지 않는다. (PointHistoryStore.replaceHistories)
+     * 잔액 쓰기는 다시 해도 같은 값이고 내역은 한 번에 바뀌므로, 중간에 실패하면 넘겨받지 않은 상태로 남아 다음 요청이 처음부터 다시 넘겨받는다.
+     */
+    private void adopt(PartitionRouter.RingState state, long userId) {
+        PartitionNode previousOwner = state.pendingPreviousOwnerOf(userId);
+        if (previousOwner == null) {
+            return;
+        }
+        userLockProvider.lock(userId);
+        try {
+            if (state.isAdopted(userId)) {
+                return;
+            }
+            PartitionHandoff handoff = pointNodeClient.handoff(previousOwner, userId);
+            userPointCache.insertOrUpdate(userId, handoff.userPoint().point());
+            pointHistoryStore.replaceHistories(userId, handoff.histories());
+            state.markAdopted(userId);
+            pointMetrics.recordPartitionHandoff();
+        } finally {
+            userLockProvider.unlock(userId);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.partition;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistoryFilter;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 다른 노드에 요청을 전달하는 클라이언트
+ * - hops : 받는 노드에 전달할 누적 전달 횟수 (받는 노드가 다시 전달할지 판단하는 데 사용)
+ * - 받는 노드가 오류로 응답하면 RemotePointException, 연결하지 못하면 PartitionUnavailableException 을 던집니다.
+ */
+public interface PointNodeClient {
+
+    UserPoint getUserPoint(PartitionNode node, long userId, int hops);
+
+    PointHistoryPage getPointHistories(PartitionNode node, long userId, PointHistoryFilter filter, Long cursor, int limit, int hops);
+
+    PointHistoryTotals getPointHistoryTotals(PartitionNode node, long userId, PointHistoryFilter filter, int hops);
+
+    PointSummary getPointSummary(PartitionNode node, long userId, int recent, int hops);
+
+    UserPoint execute(PartitionNode node, PointCommand command, String idempotencyKey, int hops);
+
+    // 이전 소유 노드에서 유저 상태를 넘겨받는다.
+    PartitionHandoff handoff(PartitionNode node, long userId);
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.partition;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 소유 노드가 오류로 응답한 경우 - 상태 코드와 ErrorResponse 를 그대로 전달합니다.
+ */
+public class RemotePointException extends RuntimeException {
+
+    private final int status;
+    private final ErrorResponse error;
+
+    public RemotePointException(int status, ErrorResponse error) {
+        super(error.message());
+        this.status = status;
+        this.error = error;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public ErrorResponse error() {
+        return error;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 같은 Idempotency-Key 의 앞선 요청이 point.idempotency.wait-timeout 안에 끝나지 않은 경우 (409)
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 같은 Idempotency-Key 로 다른 요청(유저, 종류, 금액)을 보낸 경우 (422)
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("이미 다른 요청에 사용한 Idempotency-Key 입니다.");
+    }
+}
@@ -0,0 +1,164 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.engine.BalanceEngine;
+import io.hhplus.tdd.engine.BalanceEngineProperties;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.hhplus.tdd.partition.PartitionProperties;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 없는 충전/사용 처리 (point.concurrency.mode=LOCK_FREE)
+ * - 잔액의 기준은 BalanceEngine 이며, 충전/사용은 유저 락, ConcurrentHashMap, 테이블 호출 없이 엔진의 CAS 한 번으로 반영됩니다.
+ *   검증은 기본 규칙(금액 범위, 잔액 부족, 최대 잔액)과 같으며 CAS 와 함께 원자적으로 처리됩니다. 추가한 규칙은 적용되지 않습니다.
+ * - 처음 요청된 유저만 테이블(캐시)에서 잔액을 읽어 엔진에 등록합니다. 읽은 잔액으로 실패할 요청(잔액 부족 등)이면 등록하지 않습니다.
+ * - 바뀐 잔액은 flushInterval 마다 모아서 테이블(캐시)에 씁니다. 테이블 잔액은 그만큼 늦을 수 있으므로 잔액 조회도 엔진에서 합니다.
+ *   종료할 때는 남은 잔액을 모두 쓴 뒤 멈춥니다.
+ * - 저널(point.journal.enabled)과 파티션 모드(point.partition.enabled)와는 함께 쓸 수 없어 시작할 때 실패합니다.
+ *   저널은 flush 전의 잔액 변경을 남기지 못하고, 파티션 모드는 유저 넘겨받기로 테이블 잔액을 엔진 밖에서 바꿉니다.
+ */
+@Component
+public class LockFreePointExecutor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LockFreePointExecutor.class);
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointRulePipeline pointRulePipeline;
+    private final long flushIntervalMillis;
+    // 사용하지 않으면 만들지 않는다.
+    private final BalanceEngine engine;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    public LockFreePointExecutor(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, PointRulePipeline pointRulePipeline,
+                                 PointRuleProperties ruleProperties, PointConcurrencyProperties concurrencyProperties, BalanceEngineProperties properties,
+                                 PointJournalProperties journalProperties, PartitionProperties partitionProperties) {
+        if (concurrencyProperties.mode() == PointConcurrencyMode.LOCK_FREE) {
+            if (journalProperties.enabled()) {
+                throw new IllegalArgumentException("point.concurrency.mode=LOCK_FREE 는 point.journal.enabled=true 와 함께 쓸 수 없습니다.");
+            }
+            if (partitionProperties.enabled()) {
+                throw new IllegalArgumentException("point.concurrency.mode=LOCK_FREE 는 point.partition.enabled=true 와 함께 쓸 수 없습니다.");
+            }
+        }
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointRulePipeline = pointRulePipeline;
+        this.flushIntervalMillis = Math.max(1L, properties.flushInterval().toMillis());
+        this.engine = concurrencyProperties.mode() == PointConcurrencyMode.LOCK_FREE
+                ? new BalanceEngine(properties.capacity(), ruleProperties.maxChargeAmount(), ruleProperties.maxUseAmount(), ruleProperties.maxBalance())
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return engine != null;
+    }
+
+    public UserPoint execute(PointCommand command) {
+        long userId = command.userId();
+        if (userId <= 0) {
+            throw new PointValidationException(ValidationFailureReason.INVALID_USER_ID, "유효하지 않은 사용자 ID입니다.");
+        }
+        long now = System.currentTimeMillis();
+        long balance = engine.apply(userId, command.type(), command.amount(), now);
+        if (balance == BalanceEngine.ABSENT) {
+            register(command);
+            balance = engine.apply(userId, command.type(), command.amount(), now);
+        }
+        pointHistoryWriter.enqueue(userId, command.amount(), command.type(), now);
+        return new UserPoint(userId, balance, now);
+    }
+
+    // 테이블(캐시)에서 읽은 잔액 대신 엔진의 최신 잔액 (엔진에 없는 유저면 그대로)
+    public UserPoint current(UserPoint userPoint) {
+        long balance = engine.balance(userPoint.id());
+        return balance == BalanceEngine.ABSENT ? userPoint : new UserPoint(userPoint.id(), balance, engine.updateMillis(userPoint.id()));
+    }
+
+    // 마지막 반영 이후 바뀐 잔액을 테이블(캐시)에 쓴다. (flush 스레드와 종료 시에만 호출)
+    int flush() {
+        // 테이블 쓰기를 감싸므로 synchronized 대신 ReentrantLock
+        flushLock.lock();
+        try {
+            return engine.flush(userPointCache::insertOrUpdate);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (engine == null || flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = flusher;
+            flusher = null;
+        }
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            current.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 멈추는 사이 바뀐 잔액까지 남김없이 반영
+        flushQuietly();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return flusher != null;
+    }
+
+    // 웹 서버가 요청을 더 받지 않게 된 뒤에 멈춘다. (저널은 이보다 나중에 닫힘)
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    // 실패할 요청으로 엔진이 차지 않도록 읽은 잔액으로 먼저 검증한 뒤 등록한다.
+    private void register(PointCommand command) {
+        UserPoint snapshot = pointRulePipeline.loadSnapshot(command.userId());
+        if (snapshot == null) {
+            throw new PointValidationException(ValidationFailureReason.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        engine.check(command.type(), command.amount(), snapshot.point());
+        engine.register(command.userId(), snapshot.point(), snapshot.updateMillis());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 쓰지 못한 잔액은 다음 주기에 다시 쓴다.
+            log.warn("잔액 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적(버전 CAS) 충전/사용 처리 (point.concurrency.mode=OPTIMISTIC)
+ * - 유저별 잔액을 버전과 함께(VersionedUserPoint) 메모리에 두고, 락 없이 읽고 검증한 뒤 compare-and-set 으로 반영합니다.
+ * - CAS 가 실패하면(다른 요청이 먼저 반영) 새 상태로 다시 검증/계산합니다. 재시도 전에는 두 배씩 늘어나는 임의 시간만큼 기다리며,
+ *   maxAttempts 를 넘으면 PointConflictException 을 던집니다.
+ * - 테이블 쓰기는 순서가 뒤바뀌지 않도록 유저 락 안에서 하며, 그 시점의 최신 상태를 씁니다.
+ *   이미 더 새로운 상태가 쓰였다면 테이블을 호출하지 않으므로, 같은 유저의 동시 요청은 쓰기 한 번으로 묶입니다.
+ * - 테이블 쓰기가 실패하면 아직 쓰지 못한 상태를 버리고(다음 요청이 테이블에서 다시 읽음), 그 상태에 포함된 요청은 모두 실패합니다.
+ *   쓰기를 맡은 요청은 그 예외를, 나머지는 PointConflictException(409) 을 받으며, 어느 쪽도 반영되지 않았으므로 다시 시도하면 됩니다.
+ * - 유저별 상태는 처리 중인 요청이 있는 동안만 유지합니다. 참조 수가 0 이 되면 제거되며, 그때는 마지막 상태가 이미 테이블에 반영되어 있습니다.
+ */
+@Component
+public class OptimisticPointExecutor {
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointRulePipeline pointRulePipeline;
+    private final UserLockProvider userLockProvider;
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    public OptimisticPointExecutor(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, PointRulePipeline pointRulePipeline,
+                                   UserLockProvider userLockProvider, PointMetrics pointMetrics, PointConcurrencyProperties properties) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointRulePipeline = pointRulePipeline;
+        this.userLockProvider = userLockProvider;
+        this.pointMetrics = pointMetrics;
+        this.enabled = properties.mode() == PointConcurrencyMode.OPTIMISTIC;
+        this.maxAttempts = properties.maxAttempts();
+        this.initialBackoffNanos = properties.initialBackoff().toNanos();
+        this.maxBackoffNanos = properties.maxBackoff().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UserPoint execute(PointCommand command) {
+        long userId = command.userId();
+        Cell cell = acquireCell(userId);
+        try {
+            long backoffNanos = initialBackoffNanos;
+            for (int attempt = 1; ; attempt++) {
+                VersionedUserPoint current = load(userId, cell);
+                long balance = pointRulePipeline.evaluate(command, current.userPoint());
+                VersionedUserPoint next = current.next(balance, System.currentTimeMillis());
+                if (cell.state.compareAndSet(current, next)) {
+                    UserPoint written = writeBack(userId, cell, next.version());
+                    pointHistoryWriter.enqueue(userId, command.amount(), command.type(), next.userPoint().updateMillis());
+                    return new UserPoint(userId, balance, written.updateMillis());
+                }
+                pointMetrics.recordOptimisticConflict();
+                if (attempt >= maxAttempts) {
+                    throw new PointConflictException(userId, attempt);
+                }
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoffNanos) + 1);
+                backoffNanos = Math.min(backoffNanos << 1, maxBackoffNanos);
+            }
+        } finally {
+            releaseCell(userId);
+        }
+    }
+
+    // 아직 읽지 않은 상태면 테이블(캐시)에서 읽어 채운다. 읽는 사이 다른 요청이 채웠거나 상태를 버렸으면 그 결과를 따른다.
+    private VersionedUserPoint load(long userId, Cell cell) {
+        while (true) {
+            VersionedUserPoint current = cell.state.get();
+            if (current.isLoaded()) {
+                return current;
+            }
+            UserPoint snapshot = pointRulePipeline.loadSnapshot(userId);
+            cell.state.compareAndSet(current, new VersionedUserPoint(snapshot, current.version()));
+        }
+    }
+
+    // version 까지의 상태가 테이블에 반영되도록 최신 상태를 쓴다.
+    private UserPoint writeBack(long userId, Cell cell, long version) {
+        userLockProvider.lock(userId);
+        try {
+            if (cell.isLost(version)) {
+                throw new PointConflictException(userId);
+            }
+            if (cell.writtenVersion >= version) {
+                return cell.written;
+            }
+            VersionedUserPoint latest = cell.state.get();
+            try {
+                UserPoint written = userPointCache.insertOrUpdate(userId, latest.userPoint().point());
+                cell.written = written;
+                cell.writtenVersion = latest.version();
+                return written;
+            } catch (RuntimeException e) {
+                cell.discard();
+                throw e;
+            }
+        } finally {
+            userLockProvider.unlock(userId);
+        }
+    }
+
+    private Cell acquireCell(long userId) {
+        return cells.compute(userId, (k, v) -> {
+            Cell cell = v == null ? new Cell() : v;
+            cell.refCount++;
+            return cell;
+        });
+    }
+
+    private void releaseCell(long userId) {
+        cells.computeIfPresent(userId, (k, v) -> --v.refCount == 0 ? null : v);
+    }
+
+    private static final class Cell {
+        private final AtomicReference<VersionedUserPoint> state = new AtomicReference<>(VersionedUserPoint.unloaded(0L));
+        private int refCount;
+
+        // 아래는 유저 락 안에서만 접근
+        private UserPoint written;
+        private long writtenVersion;
+        private final List<long[]> lostRanges = new ArrayList<>(0);
+
+        // 테이블에 쓰지 못한 (writtenVersion, 최신 버전] 을 버리고, 다음 요청이 테이블에서 다시 읽도록 한다.
+        void discard() {
+            while (true) {
+                VersionedUserPoint latest = state.get();
+                if (state.compareAndSet(latest, VersionedUserPoint.unloaded(latest.version()))) {
+                    lostRanges.add(new long[]{writtenVersion + 1, latest.version()});
+                    return;
+                }
+            }
+        }
+
+        boolean isLost(long version) {
+            for (long[] range : lostRanges) {
+                if (version >= range[0] && version <= range[1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PointAsyncConfig {
+
+    // 비동기 포인트 API 전용 실행기 - 큐가 가득 차면 RejectedExecutionException 으로 바로 거절
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor pointExecutor(PointAsyncProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.poolSize(), properties.poolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                namedThreadFactory("point-async-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 일괄 충전/사용 전용 실행기 - 스레드 수가 곧 동시에 처리하는 유저 수 한도
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor pointBatchExecutor(PointBatchProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.parallelism(), properties.parallelism(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                namedThreadFactory("point-batch-")
+        );
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
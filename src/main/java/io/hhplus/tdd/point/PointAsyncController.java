@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.partition.PartitionedPointService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController 의 비동기 버전
+ * 서비스 작업은 pointExecutor 에서 실행되므로, 서블릿 스레드는 요청을 넘긴 뒤 바로 반환됩니다.
+ * 파티션 모드에서는 다른 노드로 전달하지 않으므로, 이 노드가 소유한 유저만 처리합니다. (PartitionedPointService 참고)
+ */
+@RestController
+@RequestMapping("/point/async")
+public class PointAsyncController {
+
+    private final PartitionedPointService partitionedPointService;
+
+    public PointAsyncController(PartitionedPointService partitionedPointService) {
+        this.partitionedPointService = partitionedPointService;
+    }
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return partitionedPointService.getUserPointAsync(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<PointHistoryPage> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return partitionedPointService.getPointHistoriesAsync(id, cursor, limit);
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return partitionedPointService.chargeUserPointAsync(id, amount);
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return partitionedPointService.useUserPointAsync(id, amount);
+    }
+}
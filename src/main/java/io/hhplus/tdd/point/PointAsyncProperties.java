@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 포인트 API 실행기 설정
+ * - poolSize : 서비스 작업을 실행할 스레드 수
+ * - queueCapacity : 대기 작업 수 한도 (초과하면 바로 거절 -> 503)
+ * - timeout : 작업 완료를 기다리는 최대 시간 (초과하면 503, 이미 실행을 시작한 충전/사용은 409)
+ */
+@ConfigurationProperties("point.async")
+public record PointAsyncProperties(
+        @DefaultValue("64") int poolSize,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("5s") Duration timeout
+) {
+
+    public PointAsyncProperties {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("point.async.pool-size 는 0보다 커야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("point.async.queue-capacity 는 0보다 커야 합니다.");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("point.async.timeout 은 0보다 커야 합니다.");
+        }
+    }
+}
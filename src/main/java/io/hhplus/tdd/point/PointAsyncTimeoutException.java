@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 비동기 충전/사용이 point.async.timeout 안에 끝나지 않았지만 이미 실행을 시작한 경우 (409)
+ * 작업은 취소되지 않고 끝까지 반영되므로, 같은 요청을 다시 보내면 두 번 반영될 수 있습니다.
+ */
+public class PointAsyncTimeoutException extends RuntimeException {
+
+    public PointAsyncTimeoutException() {
+        super("요청이 아직 처리 중입니다. 다시 요청하지 말고 잔액을 조회해 결과를 확인해주세요.");
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 일괄 요청의 명령별 결과
+ * - index : 요청 목록에서의 위치
+ * - userPoint : 성공 시 처리 후 포인트 (실패 시 null)
+ * - error : 실패 시 오류 (성공 시 null)
+ */
+public record PointBatchItemResult(
+        int index,
+        PointCommand operation,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    public static PointBatchItemResult success(int index, PointCommand operation, UserPoint userPoint) {
+        return new PointBatchItemResult(index, operation, userPoint, null);
+    }
+
+    public static PointBatchItemResult failure(int index, PointCommand operation, ErrorResponse error) {
+        return new PointBatchItemResult(index, operation, null, error);
+    }
+
+    public boolean success() {
+        return error == null;
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 충전/사용 설정
+ * - parallelism : 동시에 처리하는 유저 수 (모든 일괄 요청이 함께 사용)
+ * - maxSize : 한 번의 요청에 담을 수 있는 최대 명령 수
+ */
+@ConfigurationProperties("point.batch")
+public record PointBatchProperties(
+        @DefaultValue("16") int parallelism,
+        @DefaultValue("10000") int maxSize
+) {
+
+    public PointBatchProperties {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("point.batch.parallelism 은 0보다 커야 합니다.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("point.batch.max-size 는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 일괄 충전/사용 요청
+ */
+public record PointBatchRequest(
+        List<PointCommand> operations
+) {
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 일괄 충전/사용 응답 (results 는 요청 순서와 같음)
+ */
+public record PointBatchResponse(
+        List<PointBatchItemResult> results,
+        int succeeded,
+        int failed
+) {
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.partition.PartitionUnavailableException;
+import io.hhplus.tdd.partition.PartitionedPointService;
+import io.hhplus.tdd.partition.RemotePointException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 여러 유저의 충전/사용 명령을 한 번에 처리하는 서비스
+ * - 같은 유저의 명령은 요청 순서대로, 다른 유저의 명령은 pointBatchExecutor 에서 병렬로 처리합니다.
+ * - 명령마다 PartitionedPointService 를 그대로 호출하므로 검증/락/내역 기록(파티션 모드에서는 소유 노드로 전달)은 단건 요청과 같습니다.
+ * - 한 명령이 실패해도 나머지 명령은 계속 처리하고, 실패는 명령별 결과로 돌려줍니다.
+ */
+@Service
+public class PointBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBatchService.class);
+
+    private final PartitionedPointService pointService;
+    private final Executor pointBatchExecutor;
+    private final int maxSize;
+
+    public PointBatchService(PartitionedPointService pointService, @Qualifier("pointBatchExecutor") Executor pointBatchExecutor, PointBatchProperties properties) {
+        this.pointService = pointService;
+        this.pointBatchExecutor = pointBatchExecutor;
+        this.maxSize = properties.maxSize();
+    }
+
+    public PointBatchResponse execute(List<PointCommand> operations) {
+        validate(operations);
+
+        // 유저별로 요청 순서를 유지한 채 묶는다.
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), k -> new ArrayList<>()).add(i);
+        }
+
+        PointBatchItemResult[] results = new PointBatchItemResult[operations.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (List<Integer> indexes : indexesByUser.values()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    results[index] = executeOne(index, operations.get(index));
+                }
+            }, pointBatchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        int succeeded = (int) Arrays.stream(results).filter(PointBatchItemResult::success).count();
+        return new PointBatchResponse(List.of(results), succeeded, results.length - succeeded);
+    }
+
+    private PointBatchItemResult executeOne(int index, PointCommand operation) {
+        try {
+            UserPoint userPoint = operation.type() == TransactionType.CHARGE
+                    ? pointService.chargeUserPoint(operation.userId(), operation.amount())
+                    : pointService.useUserPoint(operation.userId(), operation.amount());
+            return PointBatchItemResult.success(index, operation, userPoint);
+        } catch (IllegalArgumentException e) {
+            return PointBatchItemResult.failure(index, operation, new ErrorResponse("400", e.getMessage()));
+        } catch (AdmissionRejectedException e) {
+            return PointBatchItemResult.failure(index, operation, new ErrorResponse("429", e.getMessage()));
+        } catch (PointConflictException e) {
+            return PointBatchItemResult.failure(index, operation, new ErrorResponse("409", e.getMessage()));
+        } catch (RemotePointException e) {
+            return PointBatchItemResult.failure(index, operation, e.error());
+        } catch (PartitionUnavailableException e) {
+            return PointBatchItemResult.failure(index, operation, new ErrorResponse("503", e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("일괄 처리 중 오류: index={}, operation={}", index, operation, e);
+            return PointBatchItemResult.failure(index, operation, new ErrorResponse("500", "에러가 발생했습니다."));
+        }
+    }
+
+    private void validate(List<PointCommand> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("처리할 명령이 없습니다.");
+        }
+        if (operations.size() > maxSize) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 명령은 " + maxSize + "개 이하입니다.");
+        }
+        for (PointCommand operation : operations) {
+            if (operation == null || operation.type() == null) {
+                throw new IllegalArgumentException("명령의 종류(type)를 지정해야 합니다.");
+            }
+        }
+    }
+}
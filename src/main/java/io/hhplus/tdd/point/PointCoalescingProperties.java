@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저별 충전/사용 명령 병합(group commit) 설정
+ * - enabled : 병합 사용 여부
+ * - maxBatchSize : 한 번의 잔액 조회/갱신으로 처리할 최대 명령 수
+ */
+@ConfigurationProperties("point.coalescing")
+public record PointCoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxBatchSize
+) {
+
+    public PointCoalescingProperties {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("point.coalescing.max-batch-size 는 0보다 커야 합니다.");
+        }
+    }
+}
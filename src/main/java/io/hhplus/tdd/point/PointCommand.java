@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 명령
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+
+    public static PointCommand charge(long userId, long amount) {
+        return new PointCommand(userId, TransactionType.CHARGE, amount);
+    }
+
+    public static PointCommand use(long userId, long amount) {
+        return new PointCommand(userId, TransactionType.USE, amount);
+    }
+
+    // 명령을 적용한 뒤의 잔액
+    public long applyTo(long balance) {
+        return type == TransactionType.CHARGE ? balance + amount : balance - amount;
+    }
+}
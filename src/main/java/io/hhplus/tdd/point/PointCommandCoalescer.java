@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유저별 충전/사용 명령 병합기 (group commit)
+ * - 명령은 유저별 mailbox 에 쌓이고, 먼저 도착한 스레드 하나가 drainer 가 되어 쌓인 명령을 한꺼번에 처리합니다.
+ *   drainer 는 한 번에 최대 maxBatchSize 개씩, 자기 명령이 처리될 때까지만 처리하고, 남은 명령은 가장 오래 기다린 스레드에게 넘깁니다.
+ *   (요청 스레드 하나가 계속 들어오는 다른 요청의 명령을 끝없이 처리하지 않음)
+ * - 한 번의 처리에서 잔액은 한 번만 읽고(selectById) 한 번만 씁니다(insertOrUpdate).
+ * - 명령마다 검증은 따로 하며(앞선 명령을 반영한 잔액 스냅샷 기준), 성공한 명령마다 내역을 남기고 그 시점의 잔액을 응답합니다.
+ */
+@Component
+public class PointCommandCoalescer {
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointRulePipeline pointRulePipeline;
+    private final UserLockProvider userLockProvider;
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public PointCommandCoalescer(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, PointRulePipeline pointRulePipeline,
+                                 UserLockProvider userLockProvider, PointCoalescingProperties properties) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointRulePipeline = pointRulePipeline;
+        this.userLockProvider = userLockProvider;
+        this.enabled = properties.enabled();
+        this.maxBatchSize = properties.maxBatchSize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 명령을 mailbox 에 넣고, 처리 결과가 나올 때까지 대기
+    public UserPoint execute(PointCommand command) {
+        long userId = command.userId();
+        Mailbox mailbox = acquireMailbox(userId);
+        PendingCommand pending = new PendingCommand(command);
+        try {
+            mailbox.queue.add(pending);
+            while (!pending.result.isDone()) {
+                if (mailbox.draining.compareAndSet(false, true)) {
+                    try {
+                        drainBatch(userId, mailbox);
+                    } finally {
+                        mailbox.draining.set(false);
+                    }
+                    if (pending.result.isDone()) {
+                        // 자기 명령이 끝났으면 남은 명령은 가장 오래 기다린 스레드가 처리하도록 넘긴다.
+                        handOff(mailbox);
+                    }
+                    continue;
+                }
+                // 이미 drainer 가 있으면 그 스레드가 처리하거나 차례를 넘겨줄 때까지 기다린다.
+                CompletableFuture<Void> turn = new CompletableFuture<>();
+                pending.turn = turn;
+                // turn 을 바꾸는 사이 drainer 가 자리를 비웠으면 넘겨받지 못했을 수 있으므로 다시 자리를 잡아 본다.
+                if (!mailbox.draining.get()) {
+                    continue;
+                }
+                CompletableFuture.anyOf(pending.result, turn).join();
+            }
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            releaseMailbox(userId);
+        }
+    }
+
+    // 쌓인 명령을 최대 maxBatchSize 개까지 꺼내 한 번 처리
+    private void drainBatch(long userId, Mailbox mailbox) {
+        List<PendingCommand> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+        PendingCommand next;
+        while (batch.size() < maxBatchSize && (next = mailbox.queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (!batch.isEmpty()) {
+            process(userId, batch);
+        }
+    }
+
+    // drainer 가 자리를 비운 뒤에 호출 - 남은 명령 중 가장 먼저 들어온 명령의 스레드를 깨운다.
+    private static void handOff(Mailbox mailbox) {
+        PendingCommand head = mailbox.queue.peek();
+        if (head != null) {
+            head.turn.complete(null);
+        }
+    }
+
+    // 쌓인 명령을 한 번의 조회/갱신으로 처리
+    // Error 로 중간에 빠져나와도 기다리는 명령이 멈춰 있지 않도록, 아직 끝나지 않은 명령은 그 예외로 실패 처리한다.
+    // (drainer 가 멈추면 남은 명령을 처리할 스레드가 없으므로 다시 던지지 않고 각 명령의 호출자에게 넘긴다.)
+    private void process(long userId, List<PendingCommand> batch) {
+        try {
+            processLocked(userId, batch);
+        } catch (Throwable t) {
+            batch.forEach(pending -> pending.result.completeExceptionally(t));
+        }
+    }
+
+    private void processLocked(long userId, List<PendingCommand> batch) {
+        userLockProvider.lock(userId);
+        try {
+            UserPoint snapshot;
+            try {
+                snapshot = pointRulePipeline.loadSnapshot(userId);
+            } catch (RuntimeException e) {
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            }
+
+            // 앞선 명령까지 반영한 스냅샷으로 다음 명령을 검증
+            UserPoint current = snapshot;
+            List<PendingCommand> applied = new ArrayList<>(batch.size());
+            for (PendingCommand pending : batch) {
+                long balance;
+                try {
+                    balance = pointRulePipeline.evaluate(pending.command, current);
+                } catch (RuntimeException e) {
+                    pending.result.completeExceptionally(e);
+                    continue;
+                }
+                current = new UserPoint(userId, balance, snapshot.updateMillis());
+                pending.balanceAfter = balance;
+                applied.add(pending);
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+
+            UserPoint updated;
+            try {
+                updated = userPointCache.insertOrUpdate(userId, current.point());
+            } catch (RuntimeException e) {
+                applied.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            }
+            for (PendingCommand pending : applied) {
+                PointCommand command = pending.command;
+                pointHistoryWriter.enqueue(userId, command.amount(), command.type(), updated.updateMillis());
+                pending.result.complete(new UserPoint(userId, pending.balanceAfter, updated.updateMillis()));
+            }
+        } finally {
+            userLockProvider.unlock(userId);
+        }
+    }
+
+    // 처리 중인 명령이 없는 mailbox 는 제거되도록 참조 수를 센다.
+    private Mailbox acquireMailbox(long userId) {
+        return mailboxes.compute(userId, (k, v) -> {
+            Mailbox mailbox = v == null ? new Mailbox() : v;
+            mailbox.refCount++;
+            return mailbox;
+        });
+    }
+
+    private void releaseMailbox(long userId) {
+        mailboxes.computeIfPresent(userId, (k, v) -> --v.refCount == 0 ? null : v);
+    }
+
+    private static final class Mailbox {
+        private final ConcurrentLinkedQueue<PendingCommand> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private int refCount;
+    }
+
+    private static final class PendingCommand {
+        private final PointCommand command;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        // drainer 가 차례를 넘겨줄 때 완료 (기다릴 때마다 새로 만든다)
+        private volatile CompletableFuture<Void> turn = new CompletableFuture<>();
+        private long balanceAfter;
+
+        PendingCommand(PointCommand command) {
+            this.command = command;
+        }
+    }
+}
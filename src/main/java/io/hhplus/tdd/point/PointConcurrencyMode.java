@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 동시성 제어 방식
+ * - PESSIMISTIC : 조회부터 갱신까지 유저 락을 잡고 처리
+ * - OPTIMISTIC : 락 없이 조회/검증한 뒤 버전 compare-and-set 으로 반영하고, 충돌하면 재시도
+ * - LOCK_FREE : 메모리 잔액 엔진(BalanceEngine)에서 검증과 반영을 CAS 한 번으로 처리하고, 테이블에는 주기적으로 모아서 반영
+ */
+public enum PointConcurrencyMode {
+    PESSIMISTIC,
+    OPTIMISTIC,
+    LOCK_FREE
+}
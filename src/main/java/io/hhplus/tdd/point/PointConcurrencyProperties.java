@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 동시성 제어 설정
+ * - mode : PESSIMISTIC(기본값) / OPTIMISTIC / LOCK_FREE (point.coalescing.enabled=true 이면 병합 처리가 우선)
+ * - maxAttempts : OPTIMISTIC 에서 CAS 충돌 시 최대 시도 횟수 (넘으면 409)
+ * - initialBackoff, maxBackoff : 재시도 전 대기 시간의 처음/최대 값 (시도마다 두 배, 임의 jitter)
+ */
+@ConfigurationProperties("point.concurrency")
+public record PointConcurrencyProperties(
+        @DefaultValue("PESSIMISTIC") PointConcurrencyMode mode,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("10us") Duration initialBackoff,
+        @DefaultValue("1ms") Duration maxBackoff
+) {
+
+    public PointConcurrencyProperties {
+        if (mode == null) {
+            throw new IllegalArgumentException("point.concurrency.mode 를 지정해야 합니다.");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("point.concurrency.max-attempts 는 0보다 커야 합니다.");
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("point.concurrency.initial-backoff 는 0보다 커야 합니다.");
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("point.concurrency.max-backoff 는 initial-backoff 이상이어야 합니다.");
+        }
+    }
+}
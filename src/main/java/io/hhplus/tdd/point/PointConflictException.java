@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+/**
+ * OPTIMISTIC 모드에서 같은 유저의 다른 요청과 계속 충돌해 point.concurrency.max-attempts 안에 반영하지 못했거나,
+ * 함께 묶인 다른 요청의 테이블 쓰기가 실패해 이 요청의 잔액도 버려진 경우 (409)
+ */
+public class PointConflictException extends RuntimeException {
+
+    public PointConflictException(long userId, int attempts) {
+        super("다른 요청과 충돌해 처리하지 못했습니다. (userId=" + userId + ", attempts=" + attempts + ")");
+    }
+
+    public PointConflictException(long userId) {
+        super("함께 반영하던 잔액 쓰기가 실패해 처리하지 못했습니다. (userId=" + userId + ")");
+    }
+}
@@ -1,21 +1,32 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.partition.PartitionedPointService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final String IDEMPOTENCY_KEY = PointIdempotency.HEADER;
+    private static final String FORWARDED_HOPS = PartitionedPointService.FORWARDED_HOPS;
 
+    // 파티션 모드에서는 소유 노드가 아니면 소유 노드로 전달 (아니면 PointService 로 바로 처리)
+    private final PartitionedPointService partitionedPointService;
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointHistoryExporter pointHistoryExporter;
 
-    public PointController(PointService pointService) {
+    public PointController(PartitionedPointService partitionedPointService, PointService pointService, PointBatchService pointBatchService, PointHistoryExporter pointHistoryExporter) {
+        this.partitionedPointService = partitionedPointService;
         this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.pointHistoryExporter = pointHistoryExporter;
     }
 
     /**
@@ -23,44 +34,144 @@ public class PointController {
      */
     @GetMapping("{id}")
     public UserPoint point(
-            @PathVariable long id
+            @PathVariable long id,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
     ) {
 //        return new UserPoint(0, 0, 0);
-        return pointService.getUserPoint(id);
+        return partitionedPointService.getUserPoint(id, hops);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * cursor 이후의 내역을 limit 개씩 페이지로 반환합니다.
+     * from/to(updateMillis, to 는 포함하지 않음)/type 을 지정하면 조건에 맞는 내역을 시각 순으로 반환하며,
+     * 다음 페이지는 from 에 마지막 내역의 updateMillis, cursor 에 nextCursor 를 넘겨 조회합니다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public PointHistoryPage history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
     ) {
 //        return List.of();
-        return pointService.getPointHistories(id);
+        return partitionedPointService.getPointHistories(id, new PointHistoryFilter(from, to, type), cursor, limit, hops);
+    }
+
+    /**
+     * 특정 유저의 기간 내 충전/사용 건수와 금액 합계를 조회합니다. (from/to 를 생략하면 전체 기간)
+     */
+    @GetMapping("{id}/histories/totals")
+    public PointHistoryTotals historyTotals(
+            @PathVariable long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
+    ) {
+        return partitionedPointService.getPointHistoryTotals(id, new PointHistoryFilter(from, to, null), hops);
+    }
+
+    /**
+     * 전체 유저의 내역을 기간/종류 조건으로 시각 순 조회합니다. (다음 페이지 조회 방법은 유저별 조회와 같음)
+     * 파티션 모드에서는 이 노드가 가진 내역만 조회하므로 노드마다 호출합니다.
+     */
+    @GetMapping("histories")
+    public PointHistoryPage allHistories(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return pointService.getAllPointHistories(new PointHistoryFilter(from, to, type), cursor, limit);
+    }
+
+    /**
+     * 전체 유저의 기간 내 충전/사용 건수와 금액 합계를 조회합니다. (이 노드가 가진 내역 기준)
+     */
+    @GetMapping("histories/totals")
+    public PointHistoryTotals allHistoryTotals(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        return pointService.getAllPointHistoryTotals(new PointHistoryFilter(from, to, null));
+    }
+
+    /**
+     * 특정 유저의 잔액, 내역 합계(충전/사용 총액, 마지막 활동 시각)와 최근 내역 recent 개를 한 번에 조회합니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "20") int recent,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
+    ) {
+        return partitionedPointService.getPointSummary(id, recent, hops);
+    }
+
+    /**
+     * 특정 유저의 전체 내역을 NDJSON(한 줄에 내역 하나)으로 스트리밍합니다.
+     * 파티션 모드에서는 전달하지 않으므로 소유 노드로 요청해야 합니다.
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id
+    ) {
+        partitionedPointService.requireLocal(id);
+        StreamingResponseBody body = pointHistoryExporter.userHistories(id);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 전체 유저의 내역을 NDJSON 으로 스트리밍합니다. (정산용 내보내기)
+     * 파티션 모드에서는 이 노드가 가진 내역만 내보내므로 노드마다 호출합니다.
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyExport() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(pointHistoryExporter.allHistories());
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 처리하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
     ) {
 //        return new UserPoint(0, 0, 0);
-        return pointService.chargeUserPoint(id, amount);
+        return partitionedPointService.execute(PointCommand.charge(id, amount), idempotencyKey, hops);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 처리하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestHeader(value = FORWARDED_HOPS, defaultValue = "0") int hops
     ) {
 //        return new UserPoint(0, 0, 0);
-        return pointService.useUserPoint(id,amount);
+        return partitionedPointService.execute(PointCommand.use(id, amount), idempotencyKey, hops);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리합니다.
+     * 같은 유저의 명령은 요청 순서대로, 다른 유저의 명령은 병렬로 처리하며 결과는 명령별로 반환합니다.
+     */
+    @PostMapping("batch")
+    public PointBatchResponse batch(
+            @RequestBody PointBatchRequest request
+    ) {
+        return pointBatchService.execute(request.operations());
     }
 }
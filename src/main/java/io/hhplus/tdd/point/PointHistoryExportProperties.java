@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 내역 스트리밍(NDJSON) 설정
+ * - chunkSize : 저장소에서 한 번에 읽어 쓰는 내역 수 (응답 하나가 메모리에 들고 있는 최대 내역 수)
+ */
+@ConfigurationProperties("point.history.export")
+public record PointHistoryExportProperties(
+        @DefaultValue("1000") int chunkSize
+) {
+
+    public PointHistoryExportProperties {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("point.history.export.chunk-size 는 0보다 커야 합니다.");
+        }
+    }
+}
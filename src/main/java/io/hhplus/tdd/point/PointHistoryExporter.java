@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 포인트 내역 NDJSON 스트리밍
+ * - 내역을 chunkSize 개씩 읽어 한 줄에 하나씩 JSON 으로 쓰고, chunk 마다 flush 합니다.
+ * - 다음 chunk 는 앞의 chunk 를 다 쓴 뒤에 읽습니다. 클라이언트가 느리면 쓰기에서 대기하므로 내역 수와 관계없이 chunk 하나 분량만 메모리에 둡니다.
+ * - 유저 검증은 응답을 시작하기 전에 하므로, 잘못된 유저는 다른 API 와 같은 에러 응답을 받습니다.
+ * - 응답을 시작한 시점까지 기록된 내역만 내보냅니다.
+ */
+@Component
+public class PointHistoryExporter {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final PointHistoryStore pointHistoryStore;
+    private final UserValidate userValidate;
+    private final int chunkSize;
+
+    public PointHistoryExporter(PointHistoryStore pointHistoryStore, UserValidate userValidate, PointHistoryExportProperties properties) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.userValidate = userValidate;
+        this.chunkSize = properties.chunkSize();
+    }
+
+    // 특정 유저의 내역 (id 오름차순)
+    public StreamingResponseBody userHistories(long userId) {
+        userValidate.validateUser(userId);
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            long cursor = 0L;
+            while (true) {
+                PointHistoryPage page = pointHistoryStore.selectByUserId(userId, cursor, chunkSize);
+                writeLines(writer, page.histories());
+                if (page.nextCursor() == null) {
+                    break;
+                }
+                cursor = page.nextCursor();
+            }
+            writer.flush();
+        };
+    }
+
+    // 전체 유저의 내역 (저장 순서, 정산용)
+    public StreamingResponseBody allHistories() {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            int end = pointHistoryStore.size();
+            for (int from = 0; from < end; ) {
+                int to = (int) Math.min((long) from + chunkSize, end);
+                writeLines(writer, pointHistoryStore.selectRows(from, to));
+                from = to;
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeLines(Writer writer, List<PointHistory> histories) throws IOException {
+        StringBuilder line = new StringBuilder(96);
+        for (PointHistory history : histories) {
+            line.setLength(0);
+            line.append("{\"id\":").append(history.id())
+                    .append(",\"userId\":").append(history.userId())
+                    .append(",\"amount\":").append(history.amount())
+                    .append(",\"type\":\"").append(history.type().name())
+                    .append("\",\"updateMillis\":").append(history.updateMillis())
+                    .append("}\n");
+            writer.append(line);
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 기간/종류 조건
+ * - from : 이 시각(updateMillis) 이후 내역 (포함, null 이면 처음부터)
+ * - to : 이 시각 이전 내역 (포함하지 않음, null 이면 끝까지)
+ * - type : 충전/사용 중 하나 (null 이면 전체)
+ */
+public record PointHistoryFilter(
+        Long from,
+        Long to,
+        TransactionType type
+) {
+
+    // 조건이 없으면 id 순 페이지 조회를 그대로 사용
+    public boolean isEmpty() {
+        return from == null && to == null && type == null;
+    }
+
+    public long fromMillis() {
+        return from == null ? Long.MIN_VALUE : from;
+    }
+
+    public long toMillis() {
+        return to == null ? Long.MAX_VALUE : to;
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지
+ * - histories : id 오름차순 내역
+ * - nextCursor : 다음 페이지 조회 시 넘길 cursor (더 이상 내역이 없으면 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 유저의 포인트 내역 요약
+ * - count : 전체 내역 수
+ * - totalCharged / totalUsed : 전체 충전/사용 금액 합계
+ * - lastActivityMillis : 가장 최근 내역의 시각 (내역이 없으면 null)
+ * - recentHistories : 최근 내역 (id 오름차순)
+ */
+public record PointHistorySummary(
+        int count,
+        long totalCharged,
+        long totalUsed,
+        Long lastActivityMillis,
+        List<PointHistory> recentHistories
+) {
+
+    public static final PointHistorySummary EMPTY = new PointHistorySummary(0, 0L, 0L, null, List.of());
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 기간 내 포인트 내역 합계
+ * - chargeCount / totalCharged : 충전 건수와 금액 합계
+ * - useCount / totalUsed : 사용 건수와 금액 합계
+ */
+public record PointHistoryTotals(
+        int chargeCount,
+        long totalCharged,
+        int useCount,
+        long totalUsed
+) {
+}
@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 로 충전/사용 재시도를 한 번만 처리
+ * - 처음 받은 키는 결과 자리(CompletableFuture)를 먼저 등록한 뒤 처리합니다. 같은 키의 요청은 처리하지 않고 그 결과를 기다려 그대로 돌려줍니다.
+ *   (처리 중이면 끝날 때까지 기다리며, 테이블이나 유저 락에 접근하지 않음)
+ * - 같은 키로 다른 명령(유저, 종류, 금액)이 오면 IdempotencyKeyReusedException(422) 을 던집니다.
+ * - 처리 중인 키를 waitTimeout 동안 기다려도 끝나지 않으면 IdempotencyKeyInProgressException(409) 을 던집니다.
+ * - 성공한 결과만 보관합니다. 처리에 실패하면(Error 포함) 키를 지우므로, 기다리던 요청은 같은 예외를 받고 다음 재시도는 새로 처리됩니다.
+ * - 세그먼트마다 받은 순서대로 보관하며, 키를 추가할 때 TTL 이 지난 키와 최대 크기를 넘는 키를 앞에서부터 지웁니다. 처리 중인 키는 지우지 않습니다.
+ */
+@Component
+public class PointIdempotency {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final PointMetrics pointMetrics;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long waitTimeoutNanos;
+    private final Segment[] segments;
+
+    public PointIdempotency(PointIdempotencyProperties properties, PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+        this.enabled = properties.enabled();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.waitTimeoutNanos = properties.waitTimeout().toNanos();
+        int segmentCapacity = Math.max(1, (properties.maximumSize() + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    // key 가 없으면(또는 사용하지 않으면) 그대로 처리
+    public UserPoint execute(String key, PointCommand command, Supplier<UserPoint> action) {
+        if (!enabled || key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Segment segment = segmentFor(key);
+        Entry created = new Entry(command, System.nanoTime());
+        Entry existing = segment.putIfAbsent(key, created);
+        if (existing != null) {
+            if (!existing.command.equals(command)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            pointMetrics.recordIdempotentReplay();
+            return await(existing);
+        }
+
+        try {
+            UserPoint result = action.get();
+            created.result.complete(result);
+            return result;
+        } catch (Throwable t) {
+            segment.remove(key, created);
+            created.result.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    // 보관 중인 키 수
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private UserPoint await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h >>> 28) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static final class Entry {
+        private final PointCommand command;
+        private final long createdNanos;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        Entry(PointCommand command, long createdNanos) {
+            this.command = command;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        private final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        // 살아 있는 키가 있으면 그 항목을, 없으면 entry 를 등록하고 null 을 반환
+        Entry putIfAbsent(String key, Entry entry) {
+            lock.lock();
+            try {
+                Entry existing = entries.get(key);
+                if (existing != null && !isExpired(existing, entry.createdNanos)) {
+                    return existing;
+                }
+                if (existing != null) {
+                    entries.remove(key);
+                }
+                entries.put(key, entry);
+                evict(entry.createdNanos);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(String key, Entry entry) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 오래된 키부터 TTL 이 지났거나 크기를 넘은 만큼 지운다. 처리 중인 키를 만나면 멈춘다.
+        private void evict(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                if (!eldest.result.isDone() || (entries.size() <= capacity && !isExpired(eldest, now))) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        private boolean isExpired(Entry entry, long now) {
+            return entry.result.isDone() && now - entry.createdNanos >= ttlNanos;
+        }
+    }
+}
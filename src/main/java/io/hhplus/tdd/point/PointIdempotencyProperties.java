@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 결과 캐시 설정
+ * - enabled : 사용 여부 (끄면 헤더를 무시하고 매번 처리)
+ * - maximumSize : 보관할 최대 키 수 (초과 시 오래된 키부터 제거)
+ * - ttl : 키를 받은 뒤 결과를 보관하는 시간 (지나면 같은 키로 다시 처리됨)
+ * - waitTimeout : 처리 중인 같은 키의 결과를 기다리는 최대 시간 (지나면 409)
+ */
+@ConfigurationProperties("point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("10s") Duration waitTimeout
+) {
+
+    public PointIdempotencyProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("point.idempotency.maximum-size 는 0보다 커야 합니다.");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("point.idempotency.ttl 은 0보다 커야 합니다.");
+        }
+        if (waitTimeout == null || waitTimeout.isNegative() || waitTimeout.isZero()) {
+            throw new IllegalArgumentException("point.idempotency.wait-timeout 은 0보다 커야 합니다.");
+        }
+    }
+}
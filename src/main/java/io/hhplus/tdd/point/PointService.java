@@ -1,91 +1,341 @@
     package io.hhplus.tdd.point;
 
-    import io.hhplus.tdd.database.UserPointTable;
-    import io.hhplus.tdd.database.PointHistoryTable;
+    import io.hhplus.tdd.admission.UserAdmission;
+    import io.hhplus.tdd.database.UserPointCache;
+    import io.hhplus.tdd.database.PointHistoryStore;
+    import io.hhplus.tdd.database.PointHistoryWriter;
+    import io.hhplus.tdd.lock.UserLockProvider;
+    import io.hhplus.tdd.metrics.PointMetrics;
+    import io.hhplus.tdd.point.rule.PointRulePipeline;
+    import org.springframework.beans.factory.annotation.Qualifier;
     import org.springframework.stereotype.Service;
     import org.springframework.transaction.annotation.Transactional;
     import java.util.List;
-    import java.util.concurrent.ConcurrentHashMap;
-    import java.util.concurrent.locks.Lock;
-    import java.util.concurrent.locks.ReentrantLock;
+    import java.util.concurrent.CompletableFuture;
+    import java.util.concurrent.Executor;
+    import java.util.concurrent.RejectedExecutionException;
+    import java.util.concurrent.TimeUnit;
+    import java.util.function.Supplier;
 
     @Service
     public class PointService {
 
-        private final UserPointTable userPointTable;
-        private final PointHistoryTable pointHistoryTable;
+        // 내역 페이지 조회 시 한 번에 반환할 수 있는 최대 개수
+        static final int MAX_HISTORY_PAGE_SIZE = 1_000;
+
+        private final UserPointCache userPointCache;
+        private final PointHistoryStore pointHistoryStore;
+        private final PointHistoryWriter pointHistoryWriter;
         private final UserValidate userValidate;
-        private final PointValidate pointValidate;
-        private final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
+        private final PointRulePipeline pointRulePipeline;
+        private final UserLockProvider userLockProvider;
+        private final PointCommandCoalescer pointCommandCoalescer;
+        private final OptimisticPointExecutor optimisticPointExecutor;
+        private final LockFreePointExecutor lockFreePointExecutor;
+        private final UserAdmission userAdmission;
+        private final Executor pointExecutor;
+        private final UserSerialExecutor userSerialExecutor;
+        private final long asyncTimeoutMillis;
+        private final PointMetrics pointMetrics;
 
-        public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, UserValidate userValidate, PointValidate pointValidate) {
-            this.userPointTable = userPointTable;
-            this.pointHistoryTable = pointHistoryTable;
+        public PointService(UserPointCache userPointCache, PointHistoryStore pointHistoryStore, PointHistoryWriter pointHistoryWriter, UserValidate userValidate, PointRulePipeline pointRulePipeline, UserLockProvider userLockProvider, PointCommandCoalescer pointCommandCoalescer,
+                            OptimisticPointExecutor optimisticPointExecutor, LockFreePointExecutor lockFreePointExecutor, UserAdmission userAdmission,
+                            @Qualifier("pointExecutor") Executor pointExecutor, PointAsyncProperties pointAsyncProperties, PointMetrics pointMetrics) {
+            this.userPointCache = userPointCache;
+            this.pointHistoryStore = pointHistoryStore;
+            this.pointHistoryWriter = pointHistoryWriter;
             this.userValidate = userValidate;
-            this.pointValidate = pointValidate;
-        }
-
-        // 특정 아이디에 Lock이 있으면 Lock 반환, 없으면 새로 생성해서 반환
-        private Lock getUserLock(long userId) {
-            // k는 맵에서 찾지못한 userId를 나타내며
-            //return userLocks.computeIfAbsent(userId, _ -> new ReentrantLock()); 와 같이 표현할 수 도 있다.
-            //Map<String, User> userCache = new ConcurrentHashMap<>();
-            //User user = userCache.computeIfAbsent(userId, k -> loadUserFromDatabase(k)); 이와 같이도 쓸 수 있음
-            return userLocks.computeIfAbsent(userId, k -> new ReentrantLock());
+            this.pointRulePipeline = pointRulePipeline;
+            this.userLockProvider = userLockProvider;
+            this.pointCommandCoalescer = pointCommandCoalescer;
+            this.optimisticPointExecutor = optimisticPointExecutor;
+            this.lockFreePointExecutor = lockFreePointExecutor;
+            this.userAdmission = userAdmission;
+            this.pointExecutor = pointExecutor;
+            this.userSerialExecutor = new UserSerialExecutor(pointExecutor);
+            this.asyncTimeoutMillis = pointAsyncProperties.timeout().toMillis();
+            this.pointMetrics = pointMetrics;
         }
 
         // 특정 유저의 포인트 조회
         @Transactional(readOnly = true)
         public UserPoint getUserPoint(long userId) {
-            userValidate.validateUser(userId);
-            return userPointTable.selectById(userId);
+            long start = System.nanoTime();
+            try {
+                return current(userValidate.validateUser(userId));
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_POINT, System.nanoTime() - start);
+            }
         }
 
         // 특정 유저의 포인트 내역 조회
         @Transactional(readOnly = true)
         public List<PointHistory> getPointHistories(long userId) {
-            userValidate.validateUser(userId);
-            return pointHistoryTable.selectAllByUserId(userId);
+            long start = System.nanoTime();
+            try {
+                userValidate.validateUser(userId);
+                return pointHistoryStore.selectAllByUserId(userId);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORIES, System.nanoTime() - start);
+            }
+        }
+
+        // 특정 유저의 포인트 내역 페이지 조회 (cursor 는 이전 페이지의 nextCursor, 없으면 처음부터)
+        @Transactional(readOnly = true)
+        public PointHistoryPage getPointHistories(long userId, Long cursor, int limit) {
+            long start = System.nanoTime();
+            try {
+                userValidate.validateUser(userId);
+                validatePageSize(limit);
+                return pointHistoryStore.selectByUserId(userId, cursor == null ? 0L : cursor, limit);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORIES, System.nanoTime() - start);
+            }
+        }
+
+        /*
+         * 특정 유저의 기간/종류 조건 내역 조회 - (updateMillis, id) 오름차순
+         * - 다음 페이지는 from 에 마지막 내역의 updateMillis, cursor 에 nextCursor 를 넘깁니다. (그 시각의 내역 중 cursor 이후부터)
+         * - 조건이 없으면 id 순 페이지 조회와 같습니다.
+         */
+        @Transactional(readOnly = true)
+        public PointHistoryPage getPointHistories(long userId, PointHistoryFilter filter, Long cursor, int limit) {
+            if (filter.isEmpty()) {
+                return getPointHistories(userId, cursor, limit);
+            }
+            long start = System.nanoTime();
+            try {
+                userValidate.validateUser(userId);
+                validatePageSize(limit);
+                validateTimeRange(filter);
+                return pointHistoryStore.selectByUserIdAndTime(userId, filter.fromMillis(), filter.toMillis(), filter.type(),
+                        cursor == null ? 0L : cursor, limit);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORIES, System.nanoTime() - start);
+            }
+        }
+
+        // 특정 유저의 기간 내 충전/사용 건수와 합계 (filter 의 type 은 사용하지 않음)
+        @Transactional(readOnly = true)
+        public PointHistoryTotals getPointHistoryTotals(long userId, PointHistoryFilter filter) {
+            long start = System.nanoTime();
+            try {
+                userValidate.validateUser(userId);
+                validateTimeRange(filter);
+                return pointHistoryStore.totalsByUserId(userId, filter.fromMillis(), filter.toMillis());
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORY_TOTALS, System.nanoTime() - start);
+            }
+        }
+
+        // 전체 유저의 기간/종류 조건 내역 조회 (순서와 cursor 는 유저별 조회와 같음)
+        @Transactional(readOnly = true)
+        public PointHistoryPage getAllPointHistories(PointHistoryFilter filter, Long cursor, int limit) {
+            long start = System.nanoTime();
+            try {
+                validatePageSize(limit);
+                validateTimeRange(filter);
+                return pointHistoryStore.selectByTime(filter.fromMillis(), filter.toMillis(), filter.type(), cursor == null ? 0L : cursor, limit);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORIES, System.nanoTime() - start);
+            }
+        }
+
+        // 전체 유저의 기간 내 충전/사용 건수와 합계
+        @Transactional(readOnly = true)
+        public PointHistoryTotals getAllPointHistoryTotals(PointHistoryFilter filter) {
+            long start = System.nanoTime();
+            try {
+                validateTimeRange(filter);
+                return pointHistoryStore.totals(filter.fromMillis(), filter.toMillis());
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_HISTORY_TOTALS, System.nanoTime() - start);
+            }
+        }
+
+        private static void validatePageSize(int limit) {
+            if (limit <= 0 || limit > MAX_HISTORY_PAGE_SIZE) {
+                throw new PointValidationException(ValidationFailureReason.INVALID_PAGE_SIZE,
+                        "조회 개수는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+            }
+        }
+
+        private static void validateTimeRange(PointHistoryFilter filter) {
+            if (filter.fromMillis() >= filter.toMillis()) {
+                throw new PointValidationException(ValidationFailureReason.INVALID_TIME_RANGE, "조회 기간의 from 은 to 보다 앞서야 합니다.");
+            }
+        }
+
+        /*
+         * 특정 유저의 포인트 요약 (잔액 + 내역 합계 + 최근 내역 recentLimit 개)
+         * - 내역 집계는 pointExecutor 에서, 유저 검증은 호출 스레드에서 동시에 진행합니다.
+         *   검증하면서 읽은 잔액을 그대로 사용하므로 selectById 는 한 번만 호출되고, 응답 시간은 두 조회 중 느린 쪽에 가깝습니다.
+         * - 실행기가 가득 차 있으면 검증 뒤 호출 스레드에서 내역을 집계합니다.
+         * - 내역은 write-behind 로 기록되므로 방금 반영된 충전/사용은 합계에 아직 없을 수 있습니다.
+         */
+        @Transactional(readOnly = true)
+        public PointSummary getPointSummary(long userId, int recentLimit) {
+            long start = System.nanoTime();
+            try {
+                if (recentLimit < 0 || recentLimit > MAX_HISTORY_PAGE_SIZE) {
+                    throw new PointValidationException(ValidationFailureReason.INVALID_PAGE_SIZE,
+                            "조회 개수는 0 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+                }
+                CompletableFuture<PointHistorySummary> histories = null;
+                if (userId > 0) {
+                    try {
+                        histories = CompletableFuture.supplyAsync(() -> pointHistoryStore.summarize(userId, recentLimit), pointExecutor);
+                    } catch (RejectedExecutionException e) {
+                        // 검증 뒤 호출 스레드에서 집계
+                    }
+                }
+                UserPoint userPoint = current(userValidate.validateUser(userId));
+                PointHistorySummary summary = histories == null ? pointHistoryStore.summarize(userId, recentLimit) : histories.join();
+                return PointSummary.of(userPoint, summary);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.GET_SUMMARY, System.nanoTime() - start);
+            }
         }
 
         // 특정 유저의 포인트 충전
         @Transactional
         public UserPoint chargeUserPoint(long userId, long amount) {
-            // 해당 아이디에 lock
-            Lock lock = getUserLock(userId);
-            lock.lock();
+            long start = System.nanoTime();
             try {
-                // 유저 검증
-                userValidate.validateUser(userId);
-                // 충전 금액 검증
-                pointValidate.validateChargeAmount(amount);
-                // 포인트 충전
-                UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, amount);
-                pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
-                return updatedUserPoint;
+                return charge(userId, amount);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
             } finally {
-                lock.unlock();
+                pointMetrics.recordOperation(PointMetrics.Operation.CHARGE, System.nanoTime() - start);
             }
         }
 
         // 특정 유저의 포인트 사용
         @Transactional
         public UserPoint useUserPoint(long userId, long amount) {
-            Lock lock = getUserLock(userId);
-            lock.lock();
+            long start = System.nanoTime();
             try {
-                // 유저 검증
-                userValidate.validateUser(userId);
-                // 사용 금액 검증
-                pointValidate.validateUseAmount(userId, amount);
+                return use(userId, amount);
+            } catch (PointValidationException e) {
+                pointMetrics.recordValidationFailure(e.reason());
+                throw e;
+            } finally {
+                pointMetrics.recordOperation(PointMetrics.Operation.USE, System.nanoTime() - start);
+            }
+        }
+
+        private UserPoint charge(long userId, long amount) {
+            return execute(PointCommand.charge(userId, amount));
+        }
+
+        private UserPoint use(long userId, long amount) {
+            return execute(PointCommand.use(userId, amount));
+        }
+
+        private UserPoint execute(PointCommand command) {
+            long userId = command.userId();
+            // 한 유저(또는 전체)에 요청이 한도 이상 몰리면 락 앞에서 기다리게 하지 않고 바로 거절 (429)
+            userAdmission.acquire(userId);
+            try {
+                return executeAdmitted(command);
+            } finally {
+                userAdmission.release(userId);
+            }
+        }
 
-                // 포인트 사용
-                UserPoint updatedUserPoint = userPointTable.insertOrUpdate(userId, -amount);
-                pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+        private UserPoint executeAdmitted(PointCommand command) {
+            // 병합 모드에서는 같은 유저의 동시 요청을 한 번의 조회/갱신으로 묶어서 처리
+            if (pointCommandCoalescer.isEnabled()) {
+                return pointCommandCoalescer.execute(command);
+            }
+            // 낙관적 모드에서는 락 없이 검증하고 버전 CAS 로 반영 (테이블 쓰기 순서만 유저 락으로 맞춤)
+            if (optimisticPointExecutor.isEnabled()) {
+                return optimisticPointExecutor.execute(command);
+            }
+            // 락 없는 모드에서는 메모리 잔액 엔진에서 검증과 반영을 CAS 한 번으로 처리 (테이블에는 주기적으로 반영)
+            if (lockFreePointExecutor.isEnabled()) {
+                return lockFreePointExecutor.execute(command);
+            }
+            long userId = command.userId();
+            // 해당 아이디에 lock
+            userLockProvider.lock(userId);
+            try {
+                // 잔액 스냅샷은 한 번만 읽고, 모든 검증과 새 잔액 계산에 같은 스냅샷을 사용
+                UserPoint snapshot = pointRulePipeline.loadSnapshot(userId);
+                long newBalance = pointRulePipeline.evaluate(command, snapshot);
+                // 포인트 반영 (내역은 write-behind 로 기록)
+                UserPoint updatedUserPoint = userPointCache.insertOrUpdate(userId, newBalance);
+                pointHistoryWriter.enqueue(userId, command.amount(), command.type(), System.currentTimeMillis());
                 return updatedUserPoint;
             } finally {
-              lock.unlock();
+                userLockProvider.unlock(userId);
             }
         }
 
+        // 락 없는 모드에서는 테이블 잔액이 늦을 수 있으므로 엔진의 잔액으로 응답
+        private UserPoint current(UserPoint userPoint) {
+            return lockFreePointExecutor.isEnabled() ? lockFreePointExecutor.current(userPoint) : userPoint;
+        }
+
+        /*
+         * 비동기 버전 - pointExecutor 에서 실행하고 point.async.timeout 안에 끝나지 않으면 TimeoutException 으로 완료됩니다.
+         * 충전/사용은 유저별로 제출 순서대로 실행됩니다. 시간이 초과되면 아직 시작하지 않은 작업은 실행하지 않고 TimeoutException,
+         * 이미 시작한 작업은 취소되지 않고 반영되므로 다시 요청하지 않도록 PointAsyncTimeoutException 으로 완료됩니다.
+         */
+        public CompletableFuture<UserPoint> getUserPointAsync(long userId) {
+            return supplyAsync(() -> getUserPoint(userId));
+        }
+
+        public CompletableFuture<PointHistoryPage> getPointHistoriesAsync(long userId, Long cursor, int limit) {
+            return supplyAsync(() -> getPointHistories(userId, cursor, limit));
+        }
+
+        public CompletableFuture<UserPoint> chargeUserPointAsync(long userId, long amount) {
+            return supplySerialAsync(userId, () -> chargeUserPoint(userId, amount));
+        }
+
+        public CompletableFuture<UserPoint> useUserPointAsync(long userId, long amount) {
+            return supplySerialAsync(userId, () -> useUserPoint(userId, amount));
+        }
+
+        // 조회 작업을 pointExecutor 에서 실행 (파티션 모드는 실행 시점에 소유 여부를 확인하는 작업을 넘김)
+        public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+            return withTimeout(CompletableFuture.supplyAsync(task, pointExecutor));
+        }
+
+        // 충전/사용 작업을 유저별 제출 순서대로 pointExecutor 에서 실행
+        public <T> CompletableFuture<T> supplySerialAsync(long userId, Supplier<T> task) {
+            return userSerialExecutor.submit(userId, task, asyncTimeoutMillis);
+        }
+
+        private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+            // 호출한 쪽의 타임아웃이 실행 중인 작업 자체를 완료시키지 않도록 복사본에 건다.
+            return future.copy().orTimeout(asyncTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
     }
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 요약 (GET /point/{id}/summary)
+ * - id, point, updateMillis : 현재 잔액 (UserPoint 와 같음)
+ * - historyCount, totalCharged, totalUsed, lastActivityMillis : 전체 내역 기준 합계 (PointHistorySummary)
+ * - recentHistories : 최근 내역 (id 오름차순)
+ */
+public record PointSummary(
+        long id,
+        long point,
+        long updateMillis,
+        int historyCount,
+        long totalCharged,
+        long totalUsed,
+        Long lastActivityMillis,
+        List<PointHistory> recentHistories
+) {
+
+    public static PointSummary of(UserPoint userPoint, PointHistorySummary histories) {
+        return new PointSummary(userPoint.id(), userPoint.point(), userPoint.updateMillis(), histories.count(),
+                histories.totalCharged(), histories.totalUsed(), histories.lastActivityMillis(), histories.recentHistories());
+    }
+}
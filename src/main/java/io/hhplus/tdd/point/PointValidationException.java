@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청 검증 실패
+ * IllegalArgumentException 이므로 기존과 같이 400 으로 응답하며, 실패 사유를 함께 가집니다.
+ */
+public class PointValidationException extends IllegalArgumentException {
+
+    private final ValidationFailureReason reason;
+
+    public PointValidationException(ValidationFailureReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public ValidationFailureReason reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 순차 실행기
+ * 같은 유저의 작업은 제출된 순서대로 하나씩 실행하고, 다른 유저의 작업은 실행기에서 병렬로 실행합니다.
+ * 앞선 작업이 실패해도 다음 작업은 실행되며, 대기 중인 작업이 없는 유저의 체인은 제거됩니다.
+ * 제한 시간을 준 작업은 시간이 지나도록 시작하지 못했으면 실행하지 않습니다.
+ */
+public class UserSerialExecutor {
+
+    private final Executor executor;
+    private final ConcurrentHashMap<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    public UserSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T>[] holder = new CompletableFuture[1];
+        tails.compute(userId, (k, tail) -> {
+            CompletableFuture<T> next = tail == null
+                    ? CompletableFuture.supplyAsync(task, executor)
+                    : tail.handle((result, error) -> null).thenApplyAsync(ignored -> task.get(), executor);
+            holder[0] = next;
+            return next;
+        });
+        CompletableFuture<T> future = holder[0];
+        // 마지막 작업이 끝났으면 체인을 정리
+        future.whenComplete((result, error) -> tails.remove(userId, future));
+        return future;
+    }
+
+    /*
+     * submit 과 같지만 timeoutMillis 안에 끝나지 않으면 결과를 기다리지 않고 예외로 완료한다.
+     * - 아직 시작하지 않은 작업은 실행하지 않고 TimeoutException (반영되지 않으므로 다시 요청해도 안전)
+     * - 이미 시작한 작업은 끝까지 실행하고 PointAsyncTimeoutException
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task, long timeoutMillis) {
+        // 작업 시작과 시간 초과 중 먼저 가져간 쪽이 이긴다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<T> future = submit(userId, () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException("시간이 초과되어 실행하지 않았습니다.");
+            }
+            return task.get();
+        });
+        // 호출한 쪽의 타임아웃이 실행 중인 작업 자체를 완료시키지 않도록 복사본에 건다.
+        return future.copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).exceptionally(error -> {
+            if (error instanceof TimeoutException && !claimed.compareAndSet(false, true)) {
+                throw new PointAsyncTimeoutException();
+            }
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        });
+    }
+
+    // 대기 중인 작업이 남아 있는 유저 수
+    public int pendingUsers() {
+        return tails.size();
+    }
+}
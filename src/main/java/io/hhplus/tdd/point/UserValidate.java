@@ -1,27 +1,32 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.ErrorResponse;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
 
+@Component
 public class UserValidate {
     private static final Logger log = LoggerFactory.getLogger(UserValidate.class);
-    private final UserPointTable userPointTable;
+    private final UserPointCache userPointCache;
 
-    public UserValidate(UserPointTable userPointTable) {
-        this.userPointTable = userPointTable;
+    public UserValidate(UserPointCache userPointCache) {
+        this.userPointCache = userPointCache;
     }
 
-    public void validateUser(long userId) {
+    // 검증하면서 읽은 유저 포인트를 반환 (조회 API 가 같은 값을 다시 읽지 않도록)
+    public UserPoint validateUser(long userId) {
 
         if (userId <= 0) {
-            throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다.");
+            throw new PointValidationException(ValidationFailureReason.INVALID_USER_ID, "유효하지 않은 사용자 ID입니다.");
         }
 
         // 유저가 존재하는지 체크
-        if (userPointTable.selectById(userId) == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        UserPoint userPoint = userPointCache.selectById(userId);
+        if (userPoint == null) {
+            throw new PointValidationException(ValidationFailureReason.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
         }
+        return userPoint;
     }
 }
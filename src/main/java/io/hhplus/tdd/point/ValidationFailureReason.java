@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 검증 실패 사유 (metrics 의 reason 태그로 사용)
+ */
+public enum ValidationFailureReason {
+    INVALID_USER_ID,
+    USER_NOT_FOUND,
+    INVALID_AMOUNT,
+    AMOUNT_LIMIT_EXCEEDED,
+    INSUFFICIENT_BALANCE,
+    MAX_BALANCE_EXCEEDED,
+    INVALID_PAGE_SIZE,
+    INVALID_TIME_RANGE
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 버전이 붙은 잔액 상태 (OPTIMISTIC 모드)
+ * - 반영할 때마다 버전이 1씩 증가하며, 상태 교체는 객체 동일성(compare-and-set)으로 판단합니다.
+ * - userPoint 가 null 이면 아직 테이블에서 읽지 않은 상태입니다. 다음 반영은 이 버전 다음 번호를 씁니다.
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+
+    static VersionedUserPoint unloaded(long version) {
+        return new VersionedUserPoint(null, version);
+    }
+
+    boolean isLoaded() {
+        return userPoint != null;
+    }
+
+    VersionedUserPoint next(long balance, long updateMillis) {
+        return new VersionedUserPoint(new UserPoint(userPoint.id(), balance, updateMillis), version + 1);
+    }
+}
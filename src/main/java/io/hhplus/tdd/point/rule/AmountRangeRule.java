@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+// 1회 충전/사용 금액 범위 (0 < amount <= 한도)
+public class AmountRangeRule implements PointRule {
+
+    private final long maxChargeAmount;
+    private final long maxUseAmount;
+
+    public AmountRangeRule(long maxChargeAmount, long maxUseAmount) {
+        this.maxChargeAmount = maxChargeAmount;
+        this.maxUseAmount = maxUseAmount;
+    }
+
+    @Override
+    public void check(PointCommand command, UserPoint snapshot) {
+        boolean charge = command.type() == TransactionType.CHARGE;
+        String name = charge ? "충전" : "사용";
+        if (command.amount() <= 0) {
+            throw new PointValidationException(ValidationFailureReason.INVALID_AMOUNT, name + " 금액은 0보다 커야 합니다.");
+        }
+        long limit = charge ? maxChargeAmount : maxUseAmount;
+        if (command.amount() > limit) {
+            throw new PointValidationException(ValidationFailureReason.AMOUNT_LIMIT_EXCEEDED,
+                    name + " 금액은 " + limit + "원을 초과할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+// 충전 후 잔액 상한 (뺄셈으로 비교하므로 long 범위를 넘는 충전도 막힘)
+public class MaxBalanceRule implements PointRule {
+
+    private final long maxBalance;
+
+    public MaxBalanceRule(long maxBalance) {
+        this.maxBalance = maxBalance;
+    }
+
+    @Override
+    public void check(PointCommand command, UserPoint snapshot) {
+        if (command.type() == TransactionType.CHARGE && command.amount() > maxBalance - snapshot.point()) {
+            throw new PointValidationException(ValidationFailureReason.MAX_BALANCE_EXCEEDED,
+                    "잔액은 " + maxBalance + "원을 초과할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 충전/사용 명령 검증 규칙
+ * 명령 하나에 대해 한 번 읽은 잔액 스냅샷을 받아 검증하며, 테이블을 직접 읽지 않습니다.
+ * 통과하지 못하면 PointValidationException 을 던집니다.
+ */
+public interface PointRule {
+
+    // snapshot : 명령을 적용하기 전의 유저 포인트 (유저가 없으면 null)
+    void check(PointCommand command, UserPoint snapshot);
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.database.UserPointCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointRuleConfig {
+
+    @Bean
+    public PointRulePipeline pointRulePipeline(UserPointCache userPointCache, PointRuleProperties properties) {
+        return new PointRulePipeline(userPointCache, PointRulePipeline.defaultRules(properties));
+    }
+}
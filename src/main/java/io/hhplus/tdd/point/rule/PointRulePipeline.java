@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+import java.util.List;
+
+/**
+ * 충전/사용 검증 파이프라인
+ * - 명령 하나당 잔액 스냅샷을 한 번만 읽고(loadSnapshot), 모든 규칙을 그 스냅샷 기준으로 검증합니다.
+ * - 새 잔액도 같은 스냅샷에서 계산하므로, 충전/사용 한 건은 조회 한 번과 갱신 한 번으로 끝납니다.
+ * - 규칙은 목록 순서대로 검증하며 처음 실패한 규칙의 예외가 그대로 전달됩니다.
+ */
+public class PointRulePipeline {
+
+    private final UserPointCache userPointCache;
+    private final List<PointRule> rules;
+
+    public PointRulePipeline(UserPointCache userPointCache, List<PointRule> rules) {
+        this.userPointCache = userPointCache;
+        this.rules = List.copyOf(rules);
+    }
+
+    // 기본 규칙 (새 규칙은 여기에 순서에 맞게 추가)
+    public static List<PointRule> defaultRules(PointRuleProperties properties) {
+        return List.of(
+                new UserExistsRule(),
+                new AmountRangeRule(properties.maxChargeAmount(), properties.maxUseAmount()),
+                new SufficientBalanceRule(),
+                new MaxBalanceRule(properties.maxBalance())
+        );
+    }
+
+    // 명령 처리 전 잔액 스냅샷 (형식이 잘못된 userId 는 읽지 않고 거절, 유저가 없으면 null)
+    public UserPoint loadSnapshot(long userId) {
+        if (userId <= 0) {
+            throw new PointValidationException(ValidationFailureReason.INVALID_USER_ID, "유효하지 않은 사용자 ID입니다.");
+        }
+        return userPointCache.selectById(userId);
+    }
+
+    // 스냅샷 기준으로 모든 규칙을 검증하고, 명령을 적용한 새 잔액을 반환
+    public long evaluate(PointCommand command, UserPoint snapshot) {
+        for (PointRule rule : rules) {
+            rule.check(command, snapshot);
+        }
+        return command.applyTo(snapshot.point());
+    }
+}
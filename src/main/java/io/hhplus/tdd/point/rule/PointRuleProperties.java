@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.rule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 검증 규칙 설정
+ * - maxChargeAmount : 1회 충전 한도
+ * - maxUseAmount : 1회 사용 한도
+ * - maxBalance : 보유할 수 있는 최대 잔액
+ */
+@ConfigurationProperties("point.rule")
+public record PointRuleProperties(
+        @DefaultValue("10000000") long maxChargeAmount,
+        @DefaultValue("10000000") long maxUseAmount,
+        @DefaultValue("9223372036854775807") long maxBalance
+) {
+
+    public PointRuleProperties {
+        if (maxChargeAmount <= 0) {
+            throw new IllegalArgumentException("point.rule.max-charge-amount 는 0보다 커야 합니다.");
+        }
+        if (maxUseAmount <= 0) {
+            throw new IllegalArgumentException("point.rule.max-use-amount 는 0보다 커야 합니다.");
+        }
+        if (maxBalance <= 0) {
+            throw new IllegalArgumentException("point.rule.max-balance 는 0보다 커야 합니다.");
+        }
+    }
+}
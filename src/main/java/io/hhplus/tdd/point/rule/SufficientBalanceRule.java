@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+// 사용 시 잔액 부족 여부
+public class SufficientBalanceRule implements PointRule {
+
+    @Override
+    public void check(PointCommand command, UserPoint snapshot) {
+        if (command.type() == TransactionType.USE && snapshot.point() < command.amount()) {
+            throw new PointValidationException(ValidationFailureReason.INSUFFICIENT_BALANCE, "포인트가 부족합니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+
+// 유저 존재 여부 (나머지 규칙은 스냅샷이 있다고 가정하므로 가장 먼저 검증)
+public class UserExistsRule implements PointRule {
+
+    @Override
+    public void check(PointCommand command, UserPoint snapshot) {
+        if (snapshot == null) {
+            throw new PointValidationException(ValidationFailureReason.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+    }
+}
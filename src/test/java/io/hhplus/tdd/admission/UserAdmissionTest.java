@@ -0,0 +1,114 @@
+package io.hhplus.tdd.admission;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserAdmissionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("한 유저의 대기 수가 한도를 넘으면 바로 거절하고, 다른 유저는 영향을 받지 않는다")
+    void testRejectsWhenUserWaitersExceeded() {
+        UserAdmission admission = newAdmission(new AdmissionProperties(true, 1, 100, 0, 10));
+        admission.acquire(1L);
+        admission.acquire(1L);
+
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(1L));
+        assertEquals(AdmissionRejectReason.USER_WAITERS_EXCEEDED, exception.reason());
+        admission.acquire(2L);
+
+        admission.release(1L);
+        admission.acquire(1L);
+        admission.release(1L);
+        admission.release(1L);
+        admission.release(2L);
+        assertEquals(0, admission.inFlight());
+        assertEquals(0, admission.trackedUsers());
+        assertEquals(1.0, meterRegistry.find("point.admission.rejected").tag("reason", "user_waiters_exceeded").counter().count());
+    }
+
+    @Test
+    @DisplayName("전체 처리 중인 요청 수가 한도에 도달하면 바로 거절한다")
+    void testRejectsWhenInFlightExceeded() {
+        UserAdmission admission = newAdmission(new AdmissionProperties(true, 32, 2, 0, 10));
+        admission.acquire(1L);
+        admission.acquire(2L);
+
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(3L));
+        assertEquals(AdmissionRejectReason.IN_FLIGHT_EXCEEDED, exception.reason());
+        assertEquals(2, admission.inFlight());
+
+        admission.release(1L);
+        admission.acquire(3L);
+        assertEquals(2, admission.inFlight());
+    }
+
+    @Test
+    @DisplayName("초당 요청 수를 넘으면 burst 이후 요청을 거절하고, 시간이 지나면 다시 받는다")
+    void testRateLimit() throws InterruptedException {
+        UserAdmission admission = newAdmission(new AdmissionProperties(true, 32, 100, 20, 2));
+        for (int i = 0; i < 2; i++) {
+            admission.acquire(1L);
+            admission.release(1L);
+        }
+
+        AdmissionRejectedException exception = assertThrows(AdmissionRejectedException.class, () -> admission.acquire(1L));
+        assertEquals(AdmissionRejectReason.RATE_LIMITED, exception.reason());
+        assertTrue(exception.retryAfterMillis() > 0 && exception.retryAfterMillis() <= 50, "retryAfter=" + exception.retryAfterMillis());
+        assertEquals(0, admission.inFlight());
+        admission.acquire(2L);
+        admission.release(2L);
+
+        Thread.sleep(60);
+        admission.acquire(1L);
+        admission.release(1L);
+    }
+
+    @Test
+    @DisplayName("bucket 이 차는 중이라 남은 유저 상태는 정리 스레드가 bucket 이 가득 찬 뒤에 지운다")
+    void testSweepRemovesRefilledUsers() throws InterruptedException {
+        UserAdmission admission = newAdmission(new AdmissionProperties(true, 32, 100, 20, 2));
+        admission.start();
+        for (long userId = 1; userId <= 100; userId++) {
+            admission.acquire(userId);
+            admission.release(userId);
+        }
+        // 요청 스레드는 정리하지 않는다.
+        assertEquals(100, admission.trackedUsers());
+
+        Thread.sleep(60);
+        admission.sweep();
+
+        assertEquals(0, admission.trackedUsers());
+        assertTrue(admission.isRunning());
+        admission.stop();
+        assertFalse(admission.isRunning());
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 한도와 관계없이 모두 받는다")
+    void testDisabled() {
+        UserAdmission admission = newAdmission(new AdmissionProperties(false, 0, 1, 1, 1));
+        for (int i = 0; i < 10; i++) {
+            admission.acquire(1L);
+        }
+        assertEquals(0, admission.inFlight());
+        admission.start();
+        assertFalse(admission.isRunning());
+    }
+
+    private UserAdmission newAdmission(AdmissionProperties properties) {
+        return new UserAdmission(properties, new PointMetrics(meterRegistry));
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 테스트용 PointHistoryTable - throttle 없이 id 만 발급해 기록합니다.
+ */
+public class NoThrottlePointHistoryTable extends PointHistoryTable {
+    private long cursor = 1;
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(cursor++, userId, amount, type, updateMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 UserPointTable - 임의 지연 없이(또는 고정 지연으로) 동작하고 호출 횟수를 셉니다.
+ */
+public class NoThrottleUserPointTable extends UserPointTable {
+    private final Map<Long, UserPoint> table = new HashMap<>();
+    private final AtomicInteger selectCount = new AtomicInteger();
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private final long writeDelayMillis;
+
+    public NoThrottleUserPointTable() {
+        this(0);
+    }
+
+    public NoThrottleUserPointTable(long writeDelayMillis) {
+        this.writeDelayMillis = writeDelayMillis;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        selectCount.incrementAndGet();
+        synchronized (table) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        writeCount.incrementAndGet();
+        sleep(writeDelayMillis);
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        synchronized (table) {
+            table.put(id, userPoint);
+        }
+        return userPoint;
+    }
+
+    public int selectCount() {
+        return selectCount.get();
+    }
+
+    public int writeCount() {
+        return writeCount.get();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
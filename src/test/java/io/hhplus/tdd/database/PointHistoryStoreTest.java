@@ -0,0 +1,297 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistorySummary;
+import io.hhplus.tdd.point.PointHistoryTotals;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryStoreTest {
+
+    private PointHistoryStore pointHistoryStore;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), new PointMetrics(new SimpleMeterRegistry()), new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+    }
+
+    @Test
+    @DisplayName("유저별 내역만 기록 순서대로 조회된다")
+    void testSelectAllByUserId() {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 1L);
+        pointHistoryStore.insert(2L, 200, TransactionType.CHARGE, 2L);
+        pointHistoryStore.insert(1L, 50, TransactionType.USE, 3L);
+
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(1L);
+
+        assertEquals(2, result.size());
+        assertEquals(100, result.get(0).amount());
+        assertEquals(50, result.get(1).amount());
+        assertTrue(pointHistoryStore.selectAllByUserId(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("cursor 와 limit 으로 내역을 페이지 단위로 조회한다")
+    void testSelectByUserIdPaging() {
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryStore.insert(1L, i, TransactionType.CHARGE, i);
+            pointHistoryStore.insert(2L, i, TransactionType.CHARGE, i);
+        }
+
+        List<PointHistory> collected = new ArrayList<>();
+        long cursor = 0L;
+        int pages = 0;
+        while (true) {
+            PointHistoryPage page = pointHistoryStore.selectByUserId(1L, cursor, 2);
+            collected.addAll(page.histories());
+            pages++;
+            if (page.nextCursor() == null) {
+                break;
+            }
+            cursor = page.nextCursor();
+        }
+
+        assertEquals(3, pages);
+        assertEquals(5, collected.size());
+        for (int i = 0; i < collected.size(); i++) {
+            assertEquals(1L, collected.get(i).userId());
+            assertEquals(i + 1, collected.get(i).amount());
+        }
+    }
+
+    @Test
+    @DisplayName("내역 요약은 전체 합계와 최근 내역 limit 개를 반환한다")
+    void testSummarize() {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 1L);
+        pointHistoryStore.insert(1L, 30, TransactionType.USE, 2L);
+        pointHistoryStore.insert(2L, 999, TransactionType.CHARGE, 3L);
+        pointHistoryStore.insert(1L, 50, TransactionType.CHARGE, 4L);
+
+        PointHistorySummary summary = pointHistoryStore.summarize(1L, 2);
+
+        assertEquals(3, summary.count());
+        assertEquals(150L, summary.totalCharged());
+        assertEquals(30L, summary.totalUsed());
+        assertEquals(Long.valueOf(4L), summary.lastActivityMillis());
+        assertEquals(List.of(30L, 50L), summary.recentHistories().stream().map(PointHistory::amount).toList());
+        assertEquals(PointHistorySummary.EMPTY, pointHistoryStore.summarize(3L, 2));
+        assertTrue(pointHistoryStore.summarize(1L, 0).recentHistories().isEmpty());
+    }
+
+    @Test
+    @DisplayName("내역 요약의 마지막 활동 시각은 늦게 들어온 내역과 관계없이 가장 늦은 시각이다")
+    void testSummarizeWithLateRows() {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 10L);
+        pointHistoryStore.insert(1L, 30, TransactionType.USE, 40L);
+        pointHistoryStore.insert(1L, 50, TransactionType.CHARGE, 20L);
+
+        PointHistorySummary summary = pointHistoryStore.summarize(1L, 1);
+
+        assertEquals(3, summary.count());
+        assertEquals(150L, summary.totalCharged());
+        assertEquals(30L, summary.totalUsed());
+        assertEquals(Long.valueOf(40L), summary.lastActivityMillis());
+        assertEquals(List.of(50L), summary.recentHistories().stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    @DisplayName("기간/종류 조건 조회는 늦게 들어온 내역을 포함해 시각 순으로 반환하고, (from, cursor) 로 이어서 조회한다")
+    void testSelectByTime() {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 10L);
+        pointHistoryStore.insert(1L, 30, TransactionType.USE, 20L);
+        pointHistoryStore.insert(2L, 500, TransactionType.CHARGE, 20L);
+        pointHistoryStore.insert(1L, 200, TransactionType.CHARGE, 40L);
+        // 늦게 들어온 과거 내역
+        pointHistoryStore.insert(1L, 10, TransactionType.USE, 15L);
+        pointHistoryStore.insert(1L, 70, TransactionType.USE, 50L);
+
+        PointHistoryPage all = pointHistoryStore.selectByUserIdAndTime(1L, 10L, 50L, null, 0L, 100);
+        PointHistoryPage uses = pointHistoryStore.selectByUserIdAndTime(1L, Long.MIN_VALUE, Long.MAX_VALUE, TransactionType.USE, 0L, 100);
+
+        assertEquals(List.of(100L, 10L, 30L, 200L), all.histories().stream().map(PointHistory::amount).toList());
+        assertNull(all.nextCursor());
+        assertEquals(List.of(10L, 30L, 70L), uses.histories().stream().map(PointHistory::amount).toList());
+
+        // 전체 유저 - 같은 시각(20)은 id 순, 한 페이지에 2개씩
+        List<Long> amounts = new ArrayList<>();
+        long from = 15L;
+        long cursor = 0L;
+        while (true) {
+            PointHistoryPage page = pointHistoryStore.selectByTime(from, 50L, null, cursor, 2);
+            page.histories().forEach(history -> amounts.add(history.amount()));
+            if (page.nextCursor() == null) {
+                break;
+            }
+            from = page.histories().get(page.histories().size() - 1).updateMillis();
+            cursor = page.nextCursor();
+        }
+        assertEquals(List.of(10L, 30L, 500L, 200L), amounts);
+    }
+
+    @Test
+    @DisplayName("기간 합계는 종류별 건수와 금액 합계를 반환한다")
+    void testTotalsByTime() {
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryStore.insert(1L, i * 100L, TransactionType.CHARGE, i);
+            pointHistoryStore.insert(2L, i, TransactionType.USE, i);
+        }
+        pointHistoryStore.insert(1L, 7, TransactionType.USE, 3L);
+
+        assertEquals(new PointHistoryTotals(3, 900L, 1, 7L), pointHistoryStore.totalsByUserId(1L, 2L, 5L));
+        assertEquals(new PointHistoryTotals(10, 5_500L, 1, 7L), pointHistoryStore.totalsByUserId(1L, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new PointHistoryTotals(0, 0L, 0, 0L), pointHistoryStore.totalsByUserId(3L, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new PointHistoryTotals(3, 900L, 4, 16L), pointHistoryStore.totals(2L, 5L));
+        assertEquals(new PointHistoryTotals(0, 0L, 0, 0L), pointHistoryStore.totals(11L, 20L));
+    }
+
+    @Test
+    @DisplayName("늦게 들어온 내역과 넘겨받은 내역이 섞여도 기간 조회와 합계는 전체를 훑은 결과와 같다")
+    void testTimeIndexWithLateRows() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 5_000; i++) {
+            // 대부분 시각 순이고 일부만 과거 시각
+            long millis = random.nextInt(10) == 0 ? random.nextInt(i + 1) : i;
+            pointHistoryStore.insert(1 + random.nextInt(3), 1 + random.nextInt(1_000), random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE, millis);
+        }
+        List<PointHistory> imported = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            imported.add(new PointHistory(0L, 4L, 1 + random.nextInt(1_000), random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE, random.nextInt(5_000)));
+        }
+        pointHistoryStore.replaceHistories(4L, imported);
+
+        List<PointHistory> all = new ArrayList<>();
+        for (long userId = 1L; userId <= 4L; userId++) {
+            all.addAll(pointHistoryStore.selectAllByUserId(userId));
+        }
+        for (int i = 0; i < 20; i++) {
+            long from = random.nextInt(5_000);
+            long to = from + random.nextInt(2_000);
+            List<PointHistory> expected = all.stream()
+                    .filter(history -> history.updateMillis() >= from && history.updateMillis() < to)
+                    .sorted(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id))
+                    .toList();
+
+            assertEquals(expected, pointHistoryStore.selectByTime(from, to, null, 0L, Integer.MAX_VALUE).histories());
+            assertEquals(new PointHistoryTotals(
+                    (int) expected.stream().filter(history -> history.type() == TransactionType.CHARGE).count(),
+                    expected.stream().filter(history -> history.type() == TransactionType.CHARGE).mapToLong(PointHistory::amount).sum(),
+                    (int) expected.stream().filter(history -> history.type() == TransactionType.USE).count(),
+                    expected.stream().filter(history -> history.type() == TransactionType.USE).mapToLong(PointHistory::amount).sum()),
+                    pointHistoryStore.totals(from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("COLUMNAR 저장 방식은 테이블을 거치지 않고 id 를 직접 발급한다")
+    void testColumnarStorageIssuesIds() {
+        PointHistoryTable table = new PointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                throw new AssertionError("COLUMNAR 저장 방식에서는 테이블에 기록하지 않는다");
+            }
+        };
+        PointHistoryStore columnarStore = new PointHistoryStore(table, new PointMetrics(new SimpleMeterRegistry()),
+                new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+
+        PointHistory first = columnarStore.insert(1L, 100, TransactionType.CHARGE, 10L);
+        PointHistory second = columnarStore.insert(2L, 200, TransactionType.USE, 20L);
+        PointHistory third = columnarStore.insert(1L, 50, TransactionType.USE, 30L);
+
+        assertEquals(new PointHistory(1L, 1L, 100, TransactionType.CHARGE, 10L), first);
+        assertEquals(2L, second.id());
+        assertEquals(List.of(first, third), columnarStore.selectAllByUserId(1L));
+        assertEquals(List.of(third), columnarStore.selectByUserId(1L, first.id(), 10).histories());
+        assertEquals(3, columnarStore.size());
+    }
+
+    @Test
+    @DisplayName("넘겨받은 내역은 원래 id 와 시각을 유지하고, 이후 발급하는 id 는 그보다 크다")
+    void testImportKeepsIds() {
+        PointHistoryStore columnarStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), new PointMetrics(new SimpleMeterRegistry()),
+                new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+        columnarStore.insert(2L, 10, TransactionType.CHARGE, 5L);
+        List<PointHistory> imported = List.of(
+                new PointHistory(40L, 1L, 100, TransactionType.CHARGE, 10L),
+                new PointHistory(41L, 1L, 30, TransactionType.USE, 20L));
+
+        columnarStore.replaceHistories(1L, imported);
+        PointHistory next = columnarStore.insert(1L, 5, TransactionType.CHARGE, 30L);
+
+        assertEquals(42L, next.id());
+        assertEquals(List.of(imported.get(0), imported.get(1), next), columnarStore.selectAllByUserId(1L));
+        assertEquals(List.of(next), columnarStore.selectByUserId(1L, 41L, 10).histories());
+        assertEquals(new PointHistoryTotals(2, 105L, 1, 30L), columnarStore.totalsByUserId(1L, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("넘겨준 유저의 내역은 전체 조회와 합계, 내보내기에서 빠지고, 다시 넘겨받으면 남아 있던 내역을 바꾼다")
+    void testDropAndReplaceHistories() {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 10L);
+        pointHistoryStore.insert(1L, 30, TransactionType.USE, 20L);
+        pointHistoryStore.insert(2L, 500, TransactionType.CHARGE, 20L);
+
+        pointHistoryStore.dropHistories(1L);
+
+        // 넘겨주기를 다시 요청받을 수 있도록 유저별 내역은 남는다.
+        assertEquals(List.of(100L, 30L), pointHistoryStore.selectAllByUserId(1L).stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(500L), pointHistoryStore.selectByTime(Long.MIN_VALUE, Long.MAX_VALUE, null, 0L, 100).histories().stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(500L), pointHistoryStore.selectRows(0, pointHistoryStore.size()).stream().map(PointHistory::amount).toList());
+        assertEquals(new PointHistoryTotals(1, 500L, 0, 0L), pointHistoryStore.totals(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        pointHistoryStore.replaceHistories(1L, List.of(
+                new PointHistory(1L, 1L, 100, TransactionType.CHARGE, 10L),
+                new PointHistory(2L, 1L, 30, TransactionType.USE, 20L),
+                new PointHistory(4L, 1L, 5, TransactionType.CHARGE, 30L)));
+
+        assertEquals(List.of(100L, 30L, 5L), pointHistoryStore.selectAllByUserId(1L).stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(100L, 500L, 30L, 5L), pointHistoryStore.selectByTime(Long.MIN_VALUE, Long.MAX_VALUE, null, 0L, 100).histories().stream().map(PointHistory::amount).toList());
+        assertEquals(new PointHistoryTotals(3, 605L, 1, 30L), pointHistoryStore.totals(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        // 넘겨준 뒤 다시 기록하면 넘겨준 내역 없이 새로 시작한다.
+        pointHistoryStore.dropHistories(1L);
+        pointHistoryStore.insert(1L, 7, TransactionType.CHARGE, 40L);
+
+        assertEquals(List.of(7L), pointHistoryStore.selectAllByUserId(1L).stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(500L, 7L), pointHistoryStore.selectRows(0, pointHistoryStore.size()).stream().map(PointHistory::amount).toList());
+        assertEquals(new PointHistoryTotals(2, 507L, 0, 0L), pointHistoryStore.totals(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("컬럼은 세그먼트 크기를 넘어도 모든 행을 유지한다")
+    void testColumnsGrowAcrossSegments() {
+        int rows = 200_000;
+        for (int i = 0; i < rows; i++) {
+            pointHistoryStore.insert(1 + (i % 3), i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(1L);
+
+        assertEquals((rows + 2) / 3, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            PointHistory pointHistory = result.get(i);
+            assertEquals(i * 3L, pointHistory.amount());
+            assertEquals(i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, pointHistory.type());
+        }
+    }
+
+    @Test
+    @DisplayName("내역이 없는 유저는 빈 페이지를 반환한다")
+    void testSelectByUserIdWithoutHistory() {
+        PointHistoryPage page = pointHistoryStore.selectByUserId(1L, 0L, 10);
+
+        assertTrue(page.histories().isEmpty());
+        assertNull(page.nextCursor());
+    }
+}
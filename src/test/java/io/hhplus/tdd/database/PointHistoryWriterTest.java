@@ -0,0 +1,169 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryWriterTest {
+
+    private PointHistoryStore pointHistoryStore;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), new PointMetrics(new SimpleMeterRegistry()), new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 10, Duration.ofMillis(5)));
+        pointHistoryWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.stop();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 순서대로 유저별 내역이 기록된다")
+    void testPreservesOrderPerUser() throws InterruptedException {
+        for (int i = 1; i <= 100; i++) {
+            pointHistoryWriter.enqueue(i % 2 + 1, i, TransactionType.CHARGE, i);
+        }
+
+        pointHistoryWriter.flush();
+
+        List<PointHistory> user1 = pointHistoryStore.selectAllByUserId(1L);
+        List<PointHistory> user2 = pointHistoryStore.selectAllByUserId(2L);
+        assertEquals(50, user1.size());
+        assertEquals(50, user2.size());
+        for (int i = 1; i < user1.size(); i++) {
+            assertTrue(user1.get(i - 1).amount() < user1.get(i).amount());
+            assertTrue(user2.get(i - 1).amount() < user2.get(i).amount());
+        }
+        PointHistoryWriterStats stats = pointHistoryWriter.stats();
+        assertEquals(0, stats.queueDepth());
+        assertEquals(100, stats.written());
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 내역을 모두 기록한다")
+    void testStopFlushesPendingHistories() {
+        for (int i = 1; i <= 500; i++) {
+            pointHistoryWriter.enqueue(1L, i, TransactionType.USE, i);
+        }
+
+        pointHistoryWriter.stop();
+
+        assertFalse(pointHistoryWriter.isRunning());
+        assertEquals(500, pointHistoryStore.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 내역은 바로 기록된다")
+    void testEnqueueAfterStopWritesDirectly() {
+        pointHistoryWriter.stop();
+
+        pointHistoryWriter.enqueue(1L, 100, TransactionType.CHARGE, 1L);
+
+        assertEquals(1, pointHistoryStore.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 채로 종료되어도 기다리던 내역이 유실되지 않는다")
+    void testBlockedEnqueueSurvivesStop() throws Exception {
+        pointHistoryWriter.stop();
+        CountDownLatch release = new CountDownLatch(1);
+        PointHistoryStore blockingStore = new PointHistoryStore(new NoThrottlePointHistoryTable() {
+            @Override
+            public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, new PointMetrics(new SimpleMeterRegistry()), new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+        PointHistoryWriter writer = new PointHistoryWriter(blockingStore, new PointHistoryWriterProperties(1, 1, Duration.ofMillis(1)));
+        writer.start();
+        writer.enqueue(1L, 1, TransactionType.CHARGE, 1L);
+        writer.enqueue(1L, 2, TransactionType.CHARGE, 2L);
+
+        Thread producer = new Thread(() -> writer.enqueue(1L, 3, TransactionType.CHARGE, 3L));
+        producer.start();
+        Thread stopper = new Thread(writer::stop);
+        stopper.start();
+        Thread.sleep(200);
+        release.countDown();
+
+        producer.join(5_000);
+        stopper.join(5_000);
+        assertFalse(producer.isAlive());
+        assertFalse(stopper.isAlive());
+        assertEquals(3, blockingStore.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("종료되는 동안 들어온 내역은 기록 스레드와 동시에 쓰지 않고 유저별 순서대로 기록된다")
+    void testWritesDuringStopAreSerialized() throws InterruptedException {
+        pointHistoryWriter.stop();
+        AtomicInteger inserting = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        // 스레드 안전하지 않은 PointHistoryTable 처럼 동시에 호출되면 표시한다.
+        PointHistoryStore store = new PointHistoryStore(new PointHistoryTable() {
+            private long cursor = 1;
+
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (inserting.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                LockSupport.parkNanos(50_000);
+                PointHistory history = new PointHistory(cursor++, userId, amount, type, updateMillis);
+                inserting.decrementAndGet();
+                return history;
+            }
+        }, new PointMetrics(new SimpleMeterRegistry()), new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+        PointHistoryWriter writer = new PointHistoryWriter(store, new PointHistoryWriterProperties(100, 10, Duration.ofMillis(1)));
+        writer.start();
+
+        int users = 4;
+        int perUser = 300;
+        List<Thread> producers = new ArrayList<>();
+        for (int user = 1; user <= users; user++) {
+            long userId = user;
+            Thread producer = new Thread(() -> {
+                for (int i = 1; i <= perUser; i++) {
+                    writer.enqueue(userId, i, TransactionType.CHARGE, i);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        Thread.sleep(20);
+        writer.stop();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertFalse(overlapped.get());
+        for (long userId = 1; userId <= users; userId++) {
+            List<Long> amounts = store.selectAllByUserId(userId).stream().map(PointHistory::amount).toList();
+            assertEquals(LongStream.rangeClosed(1, perUser).boxed().toList(), amounts);
+        }
+    }
+}
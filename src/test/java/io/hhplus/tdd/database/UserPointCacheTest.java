@@ -0,0 +1,187 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPointCacheTest {
+
+    private NoThrottleUserPointTable userPointTable;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new NoThrottleUserPointTable();
+    }
+
+    @Test
+    @DisplayName("처음 조회 이후에는 테이블을 다시 읽지 않는다")
+    void testSelectByIdHitsCacheAfterFirstLoad() {
+        UserPointCache cache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+
+        UserPoint first = cache.selectById(1L);
+        UserPoint second = cache.selectById(1L);
+
+        assertEquals(first, second);
+        assertEquals(1, userPointTable.selectCount());
+        UserPointCacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("insertOrUpdate 결과로 캐시가 갱신된다")
+    void testInsertOrUpdateRefreshesCache() {
+        UserPointCache cache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+        cache.selectById(1L);
+
+        UserPoint updated = cache.insertOrUpdate(1L, 500L);
+
+        assertEquals(updated, cache.selectById(1L));
+        assertEquals(500L, cache.selectById(1L).point());
+        assertEquals(1, userPointTable.selectCount());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다")
+    void testEvictsWhenMaximumSizeExceeded() {
+        UserPointCache cache = new UserPointCache(userPointTable, new UserPointCacheProperties(16, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+
+        for (long id = 1; id <= 1_000; id++) {
+            cache.selectById(id);
+        }
+
+        UserPointCacheStats stats = cache.stats();
+        assertTrue(stats.size() <= 16, "캐시 크기는 최대 크기를 넘지 않아야 합니다.");
+        assertEquals(1_000 - stats.size(), stats.evictions());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 테이블에서 다시 읽는다")
+    void testReloadsAfterTtl() throws InterruptedException {
+        UserPointCache cache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMillis(20)), new PointMetrics(new SimpleMeterRegistry()));
+        cache.selectById(1L);
+
+        Thread.sleep(40);
+        cache.selectById(1L);
+
+        assertEquals(2, userPointTable.selectCount());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("같은 유저의 동시 캐시 미스는 테이블 조회 하나를 함께 기다린다")
+    void testConcurrentMissesShareOneTableRead() throws Exception {
+        BlockingReadTable table = new BlockingReadTable();
+        UserPointCache cache = new UserPointCache(table, new UserPointCacheProperties(100, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+
+        List<CompletableFuture<UserPoint>> reads = new ArrayList<>();
+        reads.add(CompletableFuture.supplyAsync(() -> cache.selectById(1L)));
+        table.entered.await();
+        for (int i = 0; i < 9; i++) {
+            reads.add(CompletableFuture.supplyAsync(() -> cache.selectById(1L)));
+        }
+        while (cache.stats().coalescedReads() < 9) {
+            Thread.onSpinWait();
+        }
+        table.release.countDown();
+
+        for (CompletableFuture<UserPoint> read : reads) {
+            assertEquals(0L, read.get().point());
+        }
+        assertEquals(1, table.selectCount());
+        assertEquals(9, cache.stats().coalescedReads());
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회가 시작된 뒤 쓰기가 끝났다면 그 조회를 기다리지 않고 새로 읽는다")
+    void testReadAfterCompletedWriteDoesNotJoinStaleFlight() throws Exception {
+        BlockingReadTable table = new BlockingReadTable();
+        UserPointCache cache = new UserPointCache(table, new UserPointCacheProperties(100, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+
+        // 첫 조회는 쓰기 전 잔액(0)을 읽은 채로 멈춰 있다.
+        CompletableFuture<UserPoint> staleRead = CompletableFuture.supplyAsync(() -> cache.selectById(1L));
+        table.entered.await();
+        cache.insertOrUpdate(1L, 500L);
+        cache.invalidate(1L);
+
+        UserPoint fresh = cache.selectById(1L);
+        table.release.countDown();
+
+        assertEquals(500L, fresh.point());
+        assertEquals(0L, staleRead.get().point());
+        assertEquals(0, cache.stats().coalescedReads());
+        assertEquals(500L, cache.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("테이블 조회가 Error 로 실패해도 함께 기다리던 조회가 같은 Error 로 끝난다")
+    void testCoalescedReadsFailOnError() throws Exception {
+        BlockingReadTable table = new BlockingReadTable(new Error("table failure"));
+        UserPointCache cache = new UserPointCache(table, new UserPointCacheProperties(100, Duration.ofMinutes(1)), new PointMetrics(new SimpleMeterRegistry()));
+
+        List<CompletableFuture<UserPoint>> reads = new ArrayList<>();
+        reads.add(CompletableFuture.supplyAsync(() -> cache.selectById(1L)));
+        table.entered.await();
+        for (int i = 0; i < 3; i++) {
+            reads.add(CompletableFuture.supplyAsync(() -> cache.selectById(1L)));
+        }
+        while (cache.stats().coalescedReads() < 3) {
+            Thread.onSpinWait();
+        }
+        table.release.countDown();
+
+        for (CompletableFuture<UserPoint> read : reads) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> read.get(5, TimeUnit.SECONDS));
+            assertEquals("table failure", exception.getCause().getMessage());
+        }
+        assertEquals(0L, cache.selectById(1L).point());
+    }
+
+    // 첫 selectById 만 잔액을 읽은 뒤 release 될 때까지 멈추는 테이블
+    private static final class BlockingReadTable extends NoThrottleUserPointTable {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicBoolean first = new AtomicBoolean(true);
+        // 멈췄다가 풀린 뒤 던질 예외 (없으면 읽은 잔액 반환)
+        private final Error failure;
+
+        BlockingReadTable() {
+            this(null);
+        }
+
+        BlockingReadTable(Error failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            UserPoint userPoint = super.selectById(id);
+            if (first.getAndSet(false)) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.engine;
+
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.ValidationFailureReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceEngineTest {
+
+    private final BalanceEngine engine = new BalanceEngine(16, 1_000, 500, 10_000);
+
+    @Test
+    @DisplayName("등록된 유저만 충전/사용을 반영하고, 등록되지 않은 유저는 ABSENT 를 반환한다")
+    void testApplyAfterRegister() {
+        assertEquals(BalanceEngine.ABSENT, engine.apply(1L, TransactionType.CHARGE, 100L, 1L));
+
+        engine.register(1L, 300L, 1L);
+        engine.register(1L, 999L, 2L);
+
+        assertEquals(400L, engine.apply(1L, TransactionType.CHARGE, 100L, 5L));
+        assertEquals(150L, engine.apply(1L, TransactionType.USE, 250L, 6L));
+        assertEquals(150L, engine.balance(1L));
+        assertEquals(6L, engine.updateMillis(1L));
+        assertEquals(BalanceEngine.ABSENT, engine.balance(2L));
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    @DisplayName("기본 규칙과 같은 검증에 실패하면 잔액을 바꾸지 않고 예외를 던진다")
+    void testValidation() {
+        engine.register(1L, 9_900L, 1L);
+
+        assertReason(ValidationFailureReason.INVALID_AMOUNT, () -> engine.apply(1L, TransactionType.CHARGE, 0L, 2L));
+        assertReason(ValidationFailureReason.AMOUNT_LIMIT_EXCEEDED, () -> engine.apply(1L, TransactionType.CHARGE, 1_001L, 2L));
+        assertReason(ValidationFailureReason.AMOUNT_LIMIT_EXCEEDED, () -> engine.apply(1L, TransactionType.USE, 501L, 2L));
+        assertReason(ValidationFailureReason.MAX_BALANCE_EXCEEDED, () -> engine.apply(1L, TransactionType.CHARGE, 101L, 2L));
+        engine.register(2L, 10L, 1L);
+        assertReason(ValidationFailureReason.INSUFFICIENT_BALANCE, () -> engine.apply(2L, TransactionType.USE, 11L, 2L));
+
+        assertEquals(9_900L, engine.balance(1L));
+        assertEquals(10L, engine.balance(2L));
+    }
+
+    @Test
+    @DisplayName("동시 충전/사용이 모두 반영되고, 동시 사용은 잔액을 넘지 않는다")
+    void testConcurrentApply() throws InterruptedException {
+        BalanceEngine large = new BalanceEngine(1_024, 1_000, 1_000, Long.MAX_VALUE);
+        large.register(1L, 0L, 0L);
+        large.register(2L, 1_000L, 0L);
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(16, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                large.apply(1L, TransactionType.CHARGE, 3L, 0L);
+            }
+            for (int i = 0; i < 10; i++) {
+                try {
+                    large.apply(2L, TransactionType.USE, 7L, 0L);
+                } catch (PointValidationException e) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(16 * 10_000 * 3L, large.balance(1L));
+        // 1000 / 7 = 142 번만 성공
+        assertEquals(160 - 142, failures.get());
+        assertEquals(1_000L - 142 * 7L, large.balance(2L));
+    }
+
+    @Test
+    @DisplayName("flush 는 마지막으로 내보낸 뒤 바뀐 잔액만 내보내고, 용량의 3/4 를 넘게 등록할 수 없다")
+    void testFlushAndCapacity() {
+        for (long userId = 1; userId <= 12; userId++) {
+            engine.register(userId, userId * 10, 0L);
+        }
+        assertThrows(BalanceEngineFullException.class, () -> engine.register(13L, 0L, 0L));
+        engine.apply(3L, TransactionType.CHARGE, 5L, 1L);
+        engine.apply(7L, TransactionType.USE, 70L, 1L);
+
+        Map<Long, Long> written = new HashMap<>();
+        int flushed = engine.flush(written::put);
+
+        assertEquals(2, flushed);
+        assertEquals(Map.of(3L, 35L, 7L, 0L), written);
+        assertEquals(0, engine.flush((userId, balance) -> fail("바뀐 잔액이 없어야 합니다.")));
+        assertEquals(BalanceEngine.ABSENT, engine.apply(13L, TransactionType.CHARGE, 1L, 1L));
+    }
+
+    private static void assertReason(ValidationFailureReason reason, Runnable action) {
+        PointValidationException e = assertThrows(PointValidationException.class, action::run);
+        assertEquals(reason, e.reason());
+    }
+
+    private static void runConcurrently(int numberOfThreads, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,164 @@
+package io.hhplus.tdd.feed;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointChangeFeedTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+    private final PointHistoryStore pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), pointMetrics,
+            new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+
+    @Test
+    @DisplayName("cursor 이후의 내역을 기록 순서대로 나눠 받고, nextCursor 로 이어서 받는다")
+    void testBatchesAreResumable() {
+        PointChangeFeed feed = newFeed(16);
+        insert(10);
+
+        PointChangeBatch first = feed.read(0L, 4);
+        PointChangeBatch second = feed.read(first.nextCursor(), 100);
+        PointChangeBatch last = feed.read(second.nextCursor(), 100);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(first.changes()));
+        assertEquals(4L, first.nextCursor());
+        assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L), ids(second.changes()));
+        assertEquals(10L, second.nextCursor());
+        assertTrue(last.changes().isEmpty());
+        assertEquals(10L, last.nextCursor());
+    }
+
+    @Test
+    @DisplayName("링 버퍼보다 뒤처진 cursor 와 시작 전에 기록된 내역은 내역 저장소에서 읽는다")
+    void testLaggingCursorReadsFromStore() {
+        insert(3);
+        PointChangeFeed feed = newFeed(4);
+        insert(10);
+
+        List<PointHistory> received = new ArrayList<>();
+        long cursor = 0L;
+        PointChangeBatch batch;
+        while (!(batch = feed.read(cursor, 5)).changes().isEmpty()) {
+            received.addAll(batch.changes());
+            cursor = batch.nextCursor();
+        }
+
+        assertEquals(13, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i + 1L, received.get(i).id());
+        }
+        assertTrue(meterRegistry.find("point.feed.store.reads").counter().count() >= 2.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 넘겨받은 내역은 내보내지 않고 순번만 건너뛴다")
+    void testImportedRowsAreSkipped() {
+        PointChangeFeed feed = newFeed(4);
+        insert(2);
+        pointHistoryStore.replaceHistories(9L, List.of(
+                new PointHistory(100L, 9L, 10L, TransactionType.CHARGE, 1L),
+                new PointHistory(101L, 9L, 10L, TransactionType.CHARGE, 2L),
+                new PointHistory(102L, 9L, 10L, TransactionType.CHARGE, 3L)));
+        insert(2);
+
+        // 링 버퍼(최근 4개)보다 뒤처진 부분은 저장소에서, 나머지는 링 버퍼에서 읽는다.
+        PointChangeBatch lagging = feed.read(0L, 100);
+        PointChangeBatch recent = feed.read(lagging.nextCursor(), 100);
+
+        assertEquals(List.of(1L, 2L), ids(lagging.changes()));
+        assertEquals(3L, lagging.nextCursor());
+        assertEquals(List.of(103L, 104L), ids(recent.changes()));
+        assertEquals(7L, recent.nextCursor());
+    }
+
+    @Test
+    @DisplayName("새 내역이 없으면 기다렸다가 내역이 기록되는 즉시 반환한다")
+    void testPollCompletesOnInsert() throws Exception {
+        PointChangeFeed feed = newFeed(16);
+        insert(2);
+
+        CompletableFuture<PointChangeBatch> future = feed.poll(2L, 10, 10_000L);
+        assertFalse(future.isDone());
+        assertEquals(1, feed.waiters());
+
+        pointHistoryStore.insert(7L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointChangeBatch batch = future.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(3L), ids(batch.changes()));
+        assertEquals(7L, batch.changes().get(0).userId());
+        assertEquals(3L, batch.nextCursor());
+        assertEquals(0, feed.waiters());
+    }
+
+    @Test
+    @DisplayName("기다리던 요청은 알림 스레드에서 완료되므로, 응답 처리가 늦어도 내역을 기록한 스레드는 기다리지 않는다")
+    void testWaitersAreCompletedOffTheWriterThread() throws Exception {
+        PointChangeFeed feed = newFeed(16);
+        CompletableFuture<PointChangeBatch> future = feed.poll(0L, 10, 10_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> completedOn = future.thenApply(batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName();
+        });
+
+        Thread writer = new Thread(() -> pointHistoryStore.insert(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+        writer.start();
+        writer.join(5_000);
+        boolean writerBlocked = writer.isAlive();
+        release.countDown();
+
+        assertFalse(writerBlocked);
+        assertEquals("point-feed-notifier", completedOn.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L), ids(future.get().changes()));
+        feed.close();
+    }
+
+    @Test
+    @DisplayName("기다리는 동안 새 내역이 없으면 빈 결과를 같은 cursor 로 반환한다")
+    void testPollTimesOutWithEmptyBatch() throws Exception {
+        PointChangeFeed feed = newFeed(16);
+        insert(1);
+
+        PointChangeBatch batch = feed.poll(1L, 10, 50L).get(5, TimeUnit.SECONDS);
+
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(1L, batch.nextCursor());
+        assertThrows(IllegalArgumentException.class, () -> feed.poll(-1L, 10, 0L));
+        assertThrows(IllegalArgumentException.class, () -> feed.poll(0L, 101, 0L));
+    }
+
+    private PointChangeFeed newFeed(int capacity) {
+        return new PointChangeFeed(pointHistoryStore, pointMetrics, new PointChangeFeedProperties(capacity, 100, Duration.ofSeconds(10)));
+    }
+
+    private void insert(int count) {
+        for (int i = 0; i < count; i++) {
+            pointHistoryStore.insert(1L + i % 3, 10L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+    }
+
+    private static List<Long> ids(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::id).toList();
+    }
+}
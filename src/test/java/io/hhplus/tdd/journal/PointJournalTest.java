@@ -0,0 +1,154 @@
+package io.hhplus.tdd.journal;
+
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointJournalTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정상 종료 후 다시 열면 스냅샷에서 잔액을 복구한다")
+    void testRecoverFromSnapshotAfterClose() {
+        PointJournal journal = open(DataSize.ofMegabytes(1));
+        journal.append(1L, 100L, 10L);
+        journal.append(2L, 200L, 20L);
+        journal.append(1L, 150L, 30L);
+        journal.close();
+
+        PointJournal reopened = open(DataSize.ofMegabytes(1));
+
+        assertEquals(new UserPoint(1L, 150L, 30L), reopened.find(1L));
+        assertEquals(new UserPoint(2L, 200L, 20L), reopened.find(2L));
+        assertNull(reopened.find(3L));
+        assertEquals(3L, reopened.nextSequence());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("비정상 종료 후에는 스냅샷 이후의 저널을 재생해 복구한다")
+    void testReplayJournalTailAfterHalt() {
+        PointJournal journal = open(DataSize.ofMegabytes(1));
+        journal.append(1L, 100L, 10L);
+        journal.snapshot();
+        journal.append(1L, 300L, 20L);
+        journal.append(2L, 50L, 30L);
+        journal.halt();
+
+        PointJournal reopened = open(DataSize.ofMegabytes(1));
+
+        assertEquals(300L, reopened.find(1L).point());
+        assertEquals(50L, reopened.find(2L).point());
+        assertEquals(2, reopened.userCount());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("저널 파일이 여러 개로 나뉘어도 모두 재생하고, 스냅샷 이전 파일은 지운다")
+    void testSegmentsAreRolledAndCleanedUp() throws IOException {
+        // 파일 하나에 기록 4건
+        PointJournal journal = open(DataSize.ofBytes(PointJournal.RECORD_SIZE * 4));
+        for (long i = 1; i <= 10; i++) {
+            journal.append(i, i * 10, i);
+        }
+        assertEquals(3, files("journal-").size());
+        journal.snapshot();
+        assertEquals(1, files("journal-").size());
+        for (long i = 11; i <= 14; i++) {
+            journal.append(i, i * 10, i);
+        }
+        journal.halt();
+
+        PointJournal reopened = open(DataSize.ofBytes(PointJournal.RECORD_SIZE * 4));
+
+        assertEquals(14, reopened.userCount());
+        for (long i = 1; i <= 14; i++) {
+            assertEquals(i * 10, reopened.find(i).point());
+        }
+        assertEquals(14L, reopened.nextSequence());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("마지막 기록이 깨져 있으면 그 직전까지만 복구하고 이어서 기록한다")
+    void testTornTailIsIgnored() throws IOException {
+        PointJournal journal = open(DataSize.ofMegabytes(1));
+        journal.append(1L, 100L, 10L);
+        journal.append(2L, 200L, 20L);
+        journal.halt();
+        // 두 번째 기록의 잔액 일부를 덮어써 checksum 이 맞지 않게 만든다.
+        try (RandomAccessFile file = new RandomAccessFile(files("journal-").get(0).toFile(), "rw")) {
+            file.seek(PointJournal.RECORD_SIZE + 8);
+            file.writeLong(999L);
+        }
+
+        PointJournal reopened = open(DataSize.ofMegabytes(1));
+        assertEquals(100L, reopened.find(1L).point());
+        assertNull(reopened.find(2L));
+        reopened.append(2L, 250L, 30L);
+        reopened.halt();
+
+        PointJournal again = open(DataSize.ofMegabytes(1));
+        assertEquals(100L, again.find(1L).point());
+        assertEquals(250L, again.find(2L).point());
+        again.close();
+    }
+
+    @Test
+    @DisplayName("저널 테이블은 기록이 있는 유저를 재시작 후에도 저널에서 조회한다")
+    void testJournaledUserPointTable() {
+        PointJournal journal = open(DataSize.ofMegabytes(1));
+        new JournaledUserPointTable(new NoThrottleUserPointTable(), journal).insertOrUpdate(1L, 500L);
+        journal.close();
+
+        PointJournal reopened = open(DataSize.ofMegabytes(1));
+        NoThrottleUserPointTable emptyTable = new NoThrottleUserPointTable();
+        JournaledUserPointTable table = new JournaledUserPointTable(emptyTable, reopened);
+
+        assertEquals(500L, table.selectById(1L).point());
+        assertEquals(0, emptyTable.selectCount());
+        assertEquals(0L, table.selectById(2L).point());
+        assertEquals(1, emptyTable.selectCount());
+        reopened.close();
+    }
+
+    private PointJournal open(DataSize segmentSize) {
+        return new PointJournal(new PointJournalProperties(true, directory, segmentSize, Duration.ofMillis(10), Duration.ofHours(1), 16));
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+}
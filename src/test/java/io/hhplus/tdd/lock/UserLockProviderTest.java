@@ -0,0 +1,139 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserLockProviderTest {
+
+    @Test
+    @DisplayName("STRIPED 락은 같은 유저에 대한 작업을 직렬화한다")
+    void testStripedLockSerializesSameUser() throws InterruptedException {
+        assertMutualExclusion(new StripedUserLockProvider(64));
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 락은 같은 유저에 대한 작업을 직렬화한다")
+    void testRefCountedLockSerializesSameUser() throws InterruptedException {
+        assertMutualExclusion(new RefCountedUserLockProvider());
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 락은 잡는 스레드가 없으면 제거된다")
+    void testRefCountedLockIsReleased() throws InterruptedException {
+        RefCountedUserLockProvider provider = new RefCountedUserLockProvider();
+
+        assertMutualExclusion(provider);
+        for (long userId = 1; userId <= 10_000; userId++) {
+            provider.lock(userId);
+            provider.unlock(userId);
+        }
+
+        assertEquals(0, provider.size());
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 락은 재진입할 수 있다")
+    void testRefCountedLockIsReentrant() {
+        RefCountedUserLockProvider provider = new RefCountedUserLockProvider();
+
+        provider.lock(1L);
+        provider.lock(1L);
+        provider.unlock(1L);
+        assertEquals(1, provider.size());
+        provider.unlock(1L);
+
+        assertEquals(0, provider.size());
+        assertThrows(IllegalMonitorStateException.class, () -> provider.unlock(1L));
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED 락의 tryLock 은 실패하면 참조를 남기지 않는다")
+    void testRefCountedTryLock() throws InterruptedException {
+        RefCountedUserLockProvider provider = new RefCountedUserLockProvider();
+
+        provider.lock(1L);
+        boolean[] acquired = new boolean[1];
+        Thread other = new Thread(() -> acquired[0] = provider.tryLock(1L));
+        other.start();
+        other.join();
+        assertFalse(acquired[0]);
+        assertEquals(1, provider.size());
+
+        provider.unlock(1L);
+        assertTrue(provider.tryLock(1L));
+        provider.unlock(1L);
+        assertEquals(0, provider.size());
+    }
+
+    @Test
+    @DisplayName("계측 락은 바로 잡지 못한 경우만 경합으로 센다")
+    void testInstrumentedLockCountsContention() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserLockProvider provider = new InstrumentedUserLockProvider(new RefCountedUserLockProvider(), new PointMetrics(registry));
+
+        provider.lock(1L);
+        provider.unlock(1L);
+        assertEquals(0.0, registry.find("point.lock.contention").counter().count());
+
+        provider.lock(1L);
+        CountDownLatch waiting = new CountDownLatch(1);
+        Thread other = new Thread(() -> {
+            waiting.countDown();
+            provider.lock(1L);
+            provider.unlock(1L);
+        });
+        other.start();
+        waiting.await();
+        Thread.sleep(50);
+        provider.unlock(1L);
+        other.join();
+
+        assertEquals(1.0, registry.find("point.lock.contention").counter().count());
+        assertEquals(3L, registry.find("point.lock.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("STRIPED 락 개수는 2의 거듭제곱으로 올림된다")
+    void testStripeCountIsPowerOfTwo() {
+        assertEquals(1024, new StripedUserLockProvider(1000).stripeCount());
+        assertEquals(1, new StripedUserLockProvider(1).stripeCount());
+    }
+
+    private void assertMutualExclusion(UserLockProvider provider) throws InterruptedException {
+        int numberOfThreads = 8;
+        int iterations = 10_000;
+        long userId = 1L;
+        long[] counter = new long[1];
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < iterations; j++) {
+                        provider.lock(userId);
+                        try {
+                            counter[0]++;
+                        } finally {
+                            provider.unlock(userId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals((long) numberOfThreads * iterations, counter[0], "락 안에서 증가시킨 값이 유실되지 않아야 합니다.");
+    }
+}
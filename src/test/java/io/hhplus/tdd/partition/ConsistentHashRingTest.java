@@ -0,0 +1,65 @@
+package io.hhplus.tdd.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int USERS = 100_000;
+
+    @Test
+    @DisplayName("유저가 노드마다 고르게 나뉘고, 노드 순서와 무관하게 같은 노드가 소유한다")
+    void testUsersAreSpreadEvenly() {
+        List<PartitionNode> nodes = nodes(4);
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, 160);
+        ConsistentHashRing reversed = new ConsistentHashRing(nodes.reversed(), 160);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            PartitionNode owner = ring.ownerOf(userId);
+            assertEquals(owner, reversed.ownerOf(userId));
+            counts.merge(owner.id(), 1, Integer::sum);
+        }
+
+        for (PartitionNode node : nodes) {
+            double share = counts.getOrDefault(node.id(), 0) / (double) USERS;
+            assertTrue(share > 0.18 && share < 0.32, node.id() + " 의 비율: " + share);
+        }
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드로 옮겨 가는 유저만 소유 노드가 바뀐다")
+    void testAddingNodeMovesOnlyToNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(nodes(3), 160);
+        List<PartitionNode> grown = nodes(4);
+        ConsistentHashRing after = new ConsistentHashRing(grown, 160);
+        PartitionNode added = grown.get(3);
+
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            PartitionNode owner = after.ownerOf(userId);
+            if (!owner.equals(before.ownerOf(userId))) {
+                assertEquals(added, owner);
+                moved++;
+            }
+        }
+
+        double movedShare = moved / (double) USERS;
+        assertTrue(movedShare > 0.18 && movedShare < 0.32, "옮겨 간 비율: " + movedShare);
+    }
+
+    private static List<PartitionNode> nodes(int count) {
+        List<PartitionNode> nodes = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            nodes.add(new PartitionNode("point-" + i, "http://point-" + i + ":8080"));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionControllerTest {
+
+    private final List<PartitionNode> nodes = List.of(
+            new PartitionNode("point-1", "http://point-1:8080"),
+            new PartitionNode("point-2", "http://point-2:8080"));
+    private final PartitionProperties properties = new PartitionProperties(true, "point-1", nodes, List.of(), 160,
+            Duration.ofSeconds(5), 2, Duration.ofSeconds(5), "secret");
+    private final PartitionRouter router = new PartitionRouter(properties);
+    private final PartitionController controller = new PartitionController(router, null, new PartitionInternalAuth(properties));
+
+    @Test
+    @DisplayName("내부 토큰이 없거나 다르면 구성 변경과 넘겨주기를 거절한다")
+    void testRejectsMissingOrWrongToken() {
+        List<PartitionNode> grown = List.of(nodes.get(0), nodes.get(1), new PartitionNode("point-3", "http://point-3:8080"));
+
+        assertThrows(PartitionAccessDeniedException.class, () -> controller.updateNodes(null, grown));
+        assertThrows(PartitionAccessDeniedException.class, () -> controller.updateNodes("wrong", grown));
+        assertThrows(PartitionAccessDeniedException.class, () -> controller.handoff(null, 1L));
+        assertThrows(PartitionAccessDeniedException.class, () -> controller.status("secre"));
+        assertEquals(2, router.status().nodes().size());
+
+        assertEquals(3, controller.updateNodes("secret", grown).nodes().size());
+    }
+
+    @Test
+    @DisplayName("파티션 모드는 내부 토큰 없이 시작할 수 없다")
+    void testTokenIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionProperties(true, "point-1", nodes, List.of(), 160,
+                Duration.ofSeconds(5), 2, Duration.ofSeconds(5), " "));
+    }
+}
@@ -0,0 +1,392 @@
+package io.hhplus.tdd.partition;
+
+import io.hhplus.tdd.admission.AdmissionProperties;
+import io.hhplus.tdd.admission.UserAdmission;
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.PointHistoryWriterProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.engine.BalanceEngineProperties;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.*;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 JVM 안에 여러 노드를 띄우고, 노드 사이 전달은 HTTP 대신 InMemoryNodeClient 로 직접 호출해 검증합니다.
+ */
+class PartitionedPointServiceTest {
+
+    private final Map<String, Node> cluster = new HashMap<>();
+    private final PointNodeClient client = new InMemoryNodeClient();
+
+    @AfterEach
+    void tearDown() {
+        cluster.values().forEach(Node::close);
+    }
+
+    @Test
+    @DisplayName("소유 노드가 아닌 노드로 들어온 요청은 소유 노드에서 처리되고, 잔액은 소유 노드에만 있다")
+    void testRequestsAreServedByOwner() {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, 160);
+
+        for (long userId = 1; userId <= 60; userId++) {
+            entry(nodes, userId).service.chargeUserPoint(userId, 100L);
+        }
+
+        for (long userId = 1; userId <= 60; userId++) {
+            for (PartitionNode node : nodes) {
+                assertEquals(100L, cluster.get(node.id()).service.getUserPoint(userId, 0).point());
+                long stored = cluster.get(node.id()).table.selectById(userId).point();
+                assertEquals(ring.ownerOf(userId).equals(node) ? 100L : 0L, stored);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 의 재시도는 다른 노드로 들어와도 소유 노드에서 한 번만 처리된다")
+    void testIdempotencyKeyIsCheckedOnOwner() {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        long userId = 7L;
+
+        for (PartitionNode node : nodes) {
+            cluster.get(node.id()).service.execute(PointCommand.charge(userId, 100L), "retry-1", 0);
+        }
+
+        assertEquals(100L, cluster.get(nodes.get(0).id()).service.getUserPoint(userId, 0).point());
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드가 소유하게 된 유저의 잔액과 내역을 이전 소유 노드에서 넘겨받는다")
+    void testAddedNodeAdoptsUsers() throws InterruptedException {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        for (long userId = 1; userId <= 200; userId++) {
+            entry(nodes, userId).service.chargeUserPoint(userId, 100L);
+            entry(nodes, userId + 1).service.useUserPoint(userId, 30L);
+        }
+
+        List<PartitionNode> grown = nodes(4);
+        PartitionNode added = grown.get(3);
+        Node addedNode = start(added, grown, nodes, 160);
+        for (PartitionNode node : nodes) {
+            cluster.get(node.id()).router.updateNodes(grown);
+        }
+
+        for (Node node : cluster.values()) {
+            node.pointHistoryWriter.flush();
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(grown, 160);
+        int moved = 0;
+        for (long userId = 1; userId <= 200; userId++) {
+            PointSummary summary = entry(grown, userId).service.getPointSummary(userId, 10, 0);
+            assertEquals(70L, summary.point());
+            assertEquals(100L, summary.totalCharged());
+            assertEquals(30L, summary.totalUsed());
+            if (ring.ownerOf(userId).equals(added)) {
+                moved++;
+                assertEquals(70L, addedNode.table.selectById(userId).point());
+            }
+        }
+        for (long userId = 1; userId <= 200; userId++) {
+            entry(grown, userId).service.chargeUserPoint(userId, 1L);
+            assertEquals(71L, entry(grown, userId + 1).service.getUserPoint(userId, 0).point());
+        }
+
+        assertTrue(moved > 0);
+        assertEquals(moved, addedNode.router.status().adoptedUsers());
+    }
+
+    @Test
+    @DisplayName("유저를 넘겨받다 실패하면 아무것도 반영하지 않고, 다시 넘겨받을 때 내역이 중복되지 않는다")
+    void testFailedAdoptionIsRetriedWithoutDuplicates() throws InterruptedException {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        List<PartitionNode> grown = nodes(4);
+        PartitionNode added = grown.get(3);
+        Node addedNode = start(added, grown, nodes, 160);
+        long userId = 1L;
+        while (!new ConsistentHashRing(grown, 160).ownerOf(userId).equals(added)) {
+            userId++;
+        }
+        long movedUserId = userId;
+        Node previousOwner = cluster.get(new ConsistentHashRing(nodes, 160).ownerOf(movedUserId).id());
+        for (int i = 0; i < 5; i++) {
+            previousOwner.service.chargeUserPoint(movedUserId, 10L);
+        }
+        for (PartitionNode node : nodes) {
+            cluster.get(node.id()).router.updateNodes(grown);
+        }
+
+        addedNode.failHistoryAfter.set(3);
+        assertThrows(IllegalStateException.class, () -> addedNode.service.getUserPoint(movedUserId, 0));
+        assertTrue(addedNode.pointHistoryStore.selectAllByUserId(movedUserId).isEmpty());
+        assertEquals(0, addedNode.router.status().adoptedUsers());
+
+        PointSummary summary = addedNode.service.getPointSummary(movedUserId, 10, 0);
+        assertEquals(50L, summary.point());
+        assertEquals(5, summary.historyCount());
+        assertEquals(1, addedNode.router.status().adoptedUsers());
+    }
+
+    @Test
+    @DisplayName("넘겨받는 노드에 남아 있던 잔액(0 포함)과 내역은 넘겨받은 상태로 바뀌고, 이전 소유 노드는 넘겨준 내역을 전체 합계에서 뺀다")
+    void testAdoptionReplacesStaleState() throws InterruptedException {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        List<PartitionNode> grown = nodes(4);
+        PartitionNode added = grown.get(3);
+        Node addedNode = start(added, grown, nodes, 160);
+        long userId = 1L;
+        while (!new ConsistentHashRing(grown, 160).ownerOf(userId).equals(added)) {
+            userId++;
+        }
+        long movedUserId = userId;
+        Node previousOwner = cluster.get(new ConsistentHashRing(nodes, 160).ownerOf(movedUserId).id());
+        previousOwner.service.chargeUserPoint(movedUserId, 50L);
+        previousOwner.service.useUserPoint(movedUserId, 50L);
+        // 예전에 이 유저를 소유했던 노드처럼 잔액과 내역이 남아 있다.
+        addedNode.table.insertOrUpdate(movedUserId, 30L);
+        addedNode.pointHistoryStore.insert(movedUserId, 30L, TransactionType.CHARGE, 1L);
+        for (PartitionNode node : nodes) {
+            cluster.get(node.id()).router.updateNodes(grown);
+        }
+
+        PointSummary summary = addedNode.service.getPointSummary(movedUserId, 10, 0);
+
+        assertEquals(0L, summary.point());
+        assertEquals(2, summary.historyCount());
+        assertEquals(0L, addedNode.table.selectById(movedUserId).point());
+        assertEquals(new PointHistoryTotals(1, 50L, 1, 50L), addedNode.pointHistoryStore.totals(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new PointHistoryTotals(0, 0L, 0, 0L), previousOwner.pointHistoryStore.totals(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertTrue(previousOwner.pointHistoryStore.selectRows(0, previousOwner.pointHistoryStore.size()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이전 소유 노드의 구성이 바뀌기 전에는 새 노드가 유저를 넘겨받지 않고 거절한다")
+    void testAdoptionWaitsForPreviousOwnerUpdate() {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        List<PartitionNode> grown = nodes(4);
+        PartitionNode added = grown.get(3);
+        Node addedNode = start(added, grown, nodes, 160);
+        ConsistentHashRing ring = new ConsistentHashRing(grown, 160);
+        long userId = 1L;
+        while (!ring.ownerOf(userId).equals(added)) {
+            userId++;
+        }
+        long movedUserId = userId;
+
+        assertThrows(PartitionUnavailableException.class, () -> addedNode.service.chargeUserPoint(movedUserId, 100L));
+        assertEquals(0, addedNode.router.status().adoptedUsers());
+    }
+
+    @Test
+    @DisplayName("비동기 충전이 대기하는 사이 유저가 다른 노드로 넘어가면 실행하지 않고 거절한다")
+    void testQueuedAsyncWriteIsRejectedAfterHandoff() throws InterruptedException {
+        List<PartitionNode> nodes = nodes(3);
+        for (PartitionNode node : nodes) {
+            start(node, nodes, 160);
+        }
+        List<PartitionNode> grown = nodes(4);
+        PartitionNode added = grown.get(3);
+        Node addedNode = start(added, grown, nodes, 160);
+        long userId = 1L;
+        while (!new ConsistentHashRing(grown, 160).ownerOf(userId).equals(added)) {
+            userId++;
+        }
+        long movedUserId = userId;
+        Node owner = cluster.get(new ConsistentHashRing(nodes, 160).ownerOf(movedUserId).id());
+        owner.service.chargeUserPoint(movedUserId, 100L);
+
+        // 실행기를 막아 두고 비동기 충전을 대기시킨다.
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            owner.executor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+        CompletableFuture<UserPoint> queued = owner.service.chargeUserPointAsync(movedUserId, 50L);
+        for (PartitionNode node : nodes) {
+            cluster.get(node.id()).router.updateNodes(grown);
+        }
+        release.countDown();
+
+        CompletionException exception = assertThrows(CompletionException.class, queued::join);
+        assertInstanceOf(PartitionUnavailableException.class, exception.getCause());
+        assertEquals(100L, addedNode.service.getUserPoint(movedUserId, 0).point());
+    }
+
+    @Test
+    @DisplayName("노드마다 구성이 달라 요청이 노드 사이를 돌면 maxHops 에서 중단한다")
+    void testForwardingLoopIsStopped() {
+        List<PartitionNode> nodes = nodes(2);
+        // 가상 노드 수를 다르게 해서 두 노드의 링이 어긋나게 한다.
+        Node first = start(nodes.get(0), nodes, 160);
+        Node second = start(nodes.get(1), nodes, 3);
+        ConsistentHashRing firstRing = new ConsistentHashRing(nodes, 160);
+        ConsistentHashRing secondRing = new ConsistentHashRing(nodes, 3);
+        long userId = 1L;
+        while (!(firstRing.ownerOf(userId).equals(nodes.get(1)) && secondRing.ownerOf(userId).equals(nodes.get(0)))) {
+            userId++;
+        }
+        long loopingUserId = userId;
+
+        assertThrows(PartitionUnavailableException.class, () -> first.service.getUserPoint(loopingUserId, 0));
+        assertThrows(PartitionUnavailableException.class, () -> second.service.getUserPoint(loopingUserId, 0));
+    }
+
+    // 유저마다 들어오는 노드를 바꿔 가며 고른다.
+    private Node entry(List<PartitionNode> nodes, long userId) {
+        return cluster.get(nodes.get((int) (userId % nodes.size())).id());
+    }
+
+    private Node start(PartitionNode self, List<PartitionNode> nodes, int virtualNodes) {
+        return start(self, nodes, List.of(), virtualNodes);
+    }
+
+    private Node start(PartitionNode self, List<PartitionNode> nodes, List<PartitionNode> previousNodes, int virtualNodes) {
+        Node node = new Node(new PartitionProperties(true, self.id(), nodes, previousNodes, virtualNodes, Duration.ofSeconds(5), 2, Duration.ofSeconds(5), "test-token"));
+        cluster.put(self.id(), node);
+        return node;
+    }
+
+    private static List<PartitionNode> nodes(int count) {
+        List<PartitionNode> nodes = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            nodes.add(new PartitionNode("point-" + i, "http://point-" + i + ":8080"));
+        }
+        return nodes;
+    }
+
+    // 노드 하나 (스프링 없이 기본 설정값으로 조립)
+    private final class Node {
+        private final NoThrottleUserPointTable table = new NoThrottleUserPointTable();
+        // 0 보다 크면 그 횟수만큼 기록한 뒤 다음 내역 기록을 한 번 실패시킨다.
+        private final AtomicInteger failHistoryAfter = new AtomicInteger(-1);
+        private final PointHistoryStore pointHistoryStore;
+        private final ExecutorService executor = Executors.newFixedThreadPool(2);
+        private final PointHistoryWriter pointHistoryWriter;
+        private final PartitionRouter router;
+        private final PartitionedPointService service;
+
+        Node(PartitionProperties properties) {
+            PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+            UserPointCache userPointCache = new UserPointCache(table, new UserPointCacheProperties(1_000, Duration.ofMinutes(1)), pointMetrics);
+            PointHistoryTable historyTable = new NoThrottlePointHistoryTable() {
+                @Override
+                public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                    if (failHistoryAfter.getAndDecrement() == 0) {
+                        throw new IllegalStateException("history insert failed");
+                    }
+                    return super.insert(userId, amount, type, updateMillis);
+                }
+            };
+            pointHistoryStore = new PointHistoryStore(historyTable, pointMetrics, new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+            pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 100, Duration.ofMillis(1)));
+            UserLockProvider userLockProvider = new RefCountedUserLockProvider();
+            PointRulePipeline pointRulePipeline = new PointRulePipeline(userPointCache,
+                    PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE)));
+            PointConcurrencyProperties concurrencyProperties = new PointConcurrencyProperties(PointConcurrencyMode.PESSIMISTIC, 10, Duration.ofNanos(10_000), Duration.ofMillis(1));
+            PointRuleProperties ruleProperties = new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE);
+            PointService pointService = new PointService(userPointCache, pointHistoryStore, pointHistoryWriter, new UserValidate(userPointCache), pointRulePipeline,
+                    userLockProvider,
+                    new PointCommandCoalescer(userPointCache, pointHistoryWriter, pointRulePipeline, userLockProvider, new PointCoalescingProperties(false, 100)),
+                    new OptimisticPointExecutor(userPointCache, pointHistoryWriter, pointRulePipeline, userLockProvider, pointMetrics, concurrencyProperties),
+                    new LockFreePointExecutor(userPointCache, pointHistoryWriter, pointRulePipeline, ruleProperties, concurrencyProperties,
+                            new BalanceEngineProperties(1_024, Duration.ofMillis(100)),
+                            new PointJournalProperties(false, Path.of("data/journal"), DataSize.ofMegabytes(256), Duration.ofMillis(10), Duration.ofMinutes(5), 1_000_000), properties),
+                    new UserAdmission(new AdmissionProperties(false, 32, 1_000, 0, 10), pointMetrics),
+                    executor, new PointAsyncProperties(2, 100, Duration.ofSeconds(5)), pointMetrics);
+            router = new PartitionRouter(properties);
+            service = new PartitionedPointService(pointService,
+                    new PointIdempotency(new PointIdempotencyProperties(true, 1_000, Duration.ofHours(1), Duration.ofSeconds(10)), pointMetrics),
+                    router, client, userPointCache, pointHistoryStore, pointHistoryWriter, userLockProvider, pointMetrics, properties);
+            pointHistoryWriter.start();
+        }
+
+        void close() {
+            pointHistoryWriter.stop();
+            executor.shutdown();
+        }
+    }
+
+    // 노드 사이 HTTP 호출 대신 받는 노드의 서비스를 직접 호출
+    private final class InMemoryNodeClient implements PointNodeClient {
+
+        @Override
+        public UserPoint getUserPoint(PartitionNode node, long userId, int hops) {
+            return cluster.get(node.id()).service.getUserPoint(userId, hops);
+        }
+
+        @Override
+        public PointHistoryPage getPointHistories(PartitionNode node, long userId, PointHistoryFilter filter, Long cursor, int limit, int hops) {
+            return cluster.get(node.id()).service.getPointHistories(userId, filter, cursor, limit, hops);
+        }
+
+        @Override
+        public PointHistoryTotals getPointHistoryTotals(PartitionNode node, long userId, PointHistoryFilter filter, int hops) {
+            return cluster.get(node.id()).service.getPointHistoryTotals(userId, filter, hops);
+        }
+
+        @Override
+        public PointSummary getPointSummary(PartitionNode node, long userId, int recent, int hops) {
+            return cluster.get(node.id()).service.getPointSummary(userId, recent, hops);
+        }
+
+        @Override
+        public UserPoint execute(PartitionNode node, PointCommand command, String idempotencyKey, int hops) {
+            return cluster.get(node.id()).service.execute(command, idempotencyKey, hops);
+        }
+
+        @Override
+        public PartitionHandoff handoff(PartitionNode node, long userId) {
+            return cluster.get(node.id()).service.handoff(userId);
+        }
+    }
+}
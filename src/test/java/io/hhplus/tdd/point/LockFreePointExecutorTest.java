@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.PointHistoryWriterProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.engine.BalanceEngineProperties;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.partition.PartitionNode;
+import io.hhplus.tdd.partition.PartitionProperties;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockFreePointExecutorTest {
+
+    private final NoThrottleUserPointTable userPointTable = new NoThrottleUserPointTable();
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), pointMetrics);
+    private final PointHistoryStore pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), pointMetrics,
+            new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+    private final PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 100, Duration.ZERO));
+
+    @Test
+    @DisplayName("처음 요청된 유저는 테이블 잔액에서 시작하고, 이후 충전/사용은 테이블을 거치지 않는다")
+    void testExecuteStartsFromTableBalance() {
+        userPointTable.insertOrUpdate(1L, 1_000L);
+        LockFreePointExecutor executor = newExecutor(PointConcurrencyMode.LOCK_FREE);
+        int writesBefore = userPointTable.writeCount();
+
+        executor.execute(PointCommand.charge(1L, 500L));
+        UserPoint used = executor.execute(PointCommand.use(1L, 300L));
+
+        assertEquals(1_200L, used.point());
+        assertEquals(writesBefore, userPointTable.writeCount());
+        assertEquals(1_000L, userPointTable.selectById(1L).point());
+        assertEquals(1_200L, executor.current(userPointCache.selectById(1L)).point());
+        assertEquals(2, pointHistoryStore.selectAllByUserId(1L).size());
+        assertThrows(PointValidationException.class, () -> executor.execute(PointCommand.use(1L, 5_000L)));
+        assertThrows(PointValidationException.class, () -> executor.execute(PointCommand.charge(0L, 100L)));
+    }
+
+    @Test
+    @DisplayName("처음 요청된 유저라도 테이블 잔액으로 실패할 요청이면 엔진에 등록하지 않는다")
+    void testFailingCommandsDoNotRegister() {
+        LockFreePointExecutor executor = newExecutor(PointConcurrencyMode.LOCK_FREE);
+
+        // 엔진이 받을 수 있는 유저 수(48)보다 많은 유저의 잔액 부족 사용
+        for (long userId = 1; userId <= 1_000; userId++) {
+            long id = userId;
+            PointValidationException exception = assertThrows(PointValidationException.class, () -> executor.execute(PointCommand.use(id, 100L)));
+            assertEquals(ValidationFailureReason.INSUFFICIENT_BALANCE, exception.reason());
+        }
+
+        assertEquals(100L, executor.execute(PointCommand.charge(1_001L, 100L)).point());
+        // 등록되지 않은 유저는 테이블(캐시) 잔액을 그대로 돌려준다.
+        UserPoint stored = userPointCache.selectById(1L);
+        assertSame(stored, executor.current(stored));
+    }
+
+    @Test
+    @DisplayName("flush 는 바뀐 잔액만 테이블에 쓰고, 종료할 때 남은 잔액을 모두 쓴다")
+    void testFlushWritesChangedBalances() {
+        LockFreePointExecutor executor = newExecutor(PointConcurrencyMode.LOCK_FREE);
+        executor.start();
+        executor.execute(PointCommand.charge(1L, 100L));
+        executor.execute(PointCommand.charge(2L, 200L));
+
+        assertEquals(2, executor.flush());
+        assertEquals(0, executor.flush());
+        assertEquals(100L, userPointTable.selectById(1L).point());
+
+        executor.execute(PointCommand.use(2L, 50L));
+        executor.stop();
+
+        assertFalse(executor.isRunning());
+        assertEquals(150L, userPointTable.selectById(2L).point());
+    }
+
+    @Test
+    @DisplayName("LOCK_FREE 모드가 아니면 사용하지 않는다")
+    void testDisabledUnlessLockFreeMode() {
+        LockFreePointExecutor executor = newExecutor(PointConcurrencyMode.PESSIMISTIC);
+        executor.start();
+
+        assertFalse(executor.isEnabled());
+        assertFalse(executor.isRunning());
+    }
+
+    @Test
+    @DisplayName("LOCK_FREE 는 저널이나 파티션 모드와 함께 켜면 시작하지 않는다")
+    void testRejectsJournalAndPartition() {
+        assertThrows(IllegalArgumentException.class, () -> newExecutor(PointConcurrencyMode.LOCK_FREE, true, false));
+        assertThrows(IllegalArgumentException.class, () -> newExecutor(PointConcurrencyMode.LOCK_FREE, false, true));
+        assertFalse(newExecutor(PointConcurrencyMode.PESSIMISTIC, true, true).isEnabled());
+    }
+
+    private LockFreePointExecutor newExecutor(PointConcurrencyMode mode) {
+        return newExecutor(mode, false, false);
+    }
+
+    private LockFreePointExecutor newExecutor(PointConcurrencyMode mode, boolean journal, boolean partition) {
+        PointRuleProperties ruleProperties = new PointRuleProperties(10_000, 10_000, Long.MAX_VALUE);
+        return new LockFreePointExecutor(userPointCache, pointHistoryWriter,
+                new PointRulePipeline(userPointCache, PointRulePipeline.defaultRules(ruleProperties)), ruleProperties,
+                new PointConcurrencyProperties(mode, 10, Duration.ofNanos(1_000), Duration.ofMillis(1)),
+                new BalanceEngineProperties(64, Duration.ofMinutes(1)),
+                new PointJournalProperties(journal, Path.of("data/journal"), DataSize.ofMegabytes(256), Duration.ofMillis(10), Duration.ofMinutes(5), 1_000_000),
+                partition
+                        ? new PartitionProperties(true, "point-1", List.of(new PartitionNode("point-1", "http://localhost:8080")), null, 160,
+                                Duration.ofSeconds(5), 2, Duration.ofSeconds(5), "test-token")
+                        : new PartitionProperties(false, "", null, null, 160, Duration.ofSeconds(5), 2, Duration.ofSeconds(5), ""));
+    }
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.PointHistoryWriterProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.rule.PointRule;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticPointExecutorTest {
+
+    private UserPointCache userPointCache;
+    private PointHistoryStore pointHistoryStore;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("같은 유저의 동시 충전이 모두 반영되고, 테이블 쓰기는 묶여서 명령 수보다 적다")
+    void testConcurrentChargesAreAllApplied() throws InterruptedException {
+        // 쓰기에 지연을 주어 쓰는 동안 다른 요청의 CAS 가 쌓이도록 한다.
+        NoThrottleUserPointTable userPointTable = new NoThrottleUserPointTable(20);
+        OptimisticPointExecutor executor = newExecutor(userPointTable, List.of(), 10);
+        int numberOfThreads = 50;
+        long userId = 1L;
+
+        runConcurrently(numberOfThreads, () -> executor.execute(PointCommand.charge(userId, 100L)));
+
+        assertEquals(numberOfThreads * 100L, userPointCache.selectById(userId).point());
+        assertTrue(userPointTable.writeCount() < numberOfThreads, "잔액 갱신 횟수는 명령 수보다 적어야 합니다.");
+        assertEquals(numberOfThreads, pointHistoryStore.selectAllByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("동시 사용은 각자 최신 잔액으로 검증되어 잔액 부족 명령만 실패한다")
+    void testConcurrentUsesAreValidatedAgainstLatestBalance() throws InterruptedException {
+        OptimisticPointExecutor executor = newExecutor(new NoThrottleUserPointTable(), List.of(), 100);
+        long userId = 1L;
+        executor.execute(PointCommand.charge(userId, 1_000L));
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(20, () -> {
+            try {
+                executor.execute(PointCommand.use(userId, 100L));
+            } catch (IllegalArgumentException e) {
+                assertEquals("포인트가 부족합니다.", e.getMessage());
+                failures.incrementAndGet();
+            }
+        });
+
+        assertEquals(10, failures.get());
+        assertEquals(0L, userPointCache.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("검증 중 다른 요청이 먼저 반영하면 새 잔액으로 다시 시도하고, 시도 횟수를 넘으면 충돌로 실패한다")
+    void testConflictIsRetriedThenRejected() {
+        long userId = 1L;
+        List<OptimisticPointExecutor> holder = new ArrayList<>();
+        AtomicBoolean interfere = new AtomicBoolean(true);
+        // 첫 사용 명령을 검증하는 도중에 다른 스레드가 충전을 먼저 반영한다.
+        PointRule interferingRule = (command, snapshot) -> {
+            if (command.type() == TransactionType.USE && interfere.getAndSet(false)) {
+                CompletableFuture.runAsync(() -> holder.get(0).execute(PointCommand.charge(userId, 50L))).join();
+            }
+        };
+
+        holder.add(newExecutor(new NoThrottleUserPointTable(), List.of(interferingRule), 2));
+        OptimisticPointExecutor executor = holder.get(0);
+        executor.execute(PointCommand.charge(userId, 100L));
+        UserPoint used = executor.execute(PointCommand.use(userId, 30L));
+
+        assertEquals(120L, used.point());
+        assertEquals(1.0, meterRegistry.find("point.optimistic.conflicts").counter().count());
+
+        holder.set(0, newExecutor(new NoThrottleUserPointTable(), List.of(interferingRule), 1));
+        OptimisticPointExecutor noRetry = holder.get(0);
+        interfere.set(true);
+        noRetry.execute(PointCommand.charge(userId, 100L));
+
+        assertThrows(PointConflictException.class, () -> noRetry.execute(PointCommand.use(userId, 30L)));
+        assertEquals(150L, userPointCache.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("테이블 쓰기에 실패하면 반영하지 못한 상태를 버리고 다음 요청은 테이블 잔액에서 시작한다")
+    void testFailedWriteIsDiscarded() {
+        AtomicBoolean fail = new AtomicBoolean(false);
+        UserPointTable failingTable = new NoThrottleUserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (fail.getAndSet(false)) {
+                    throw new IllegalStateException("write failed");
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        OptimisticPointExecutor executor = newExecutor(failingTable, List.of(), 10);
+        long userId = 1L;
+        executor.execute(PointCommand.charge(userId, 100L));
+
+        fail.set(true);
+        assertThrows(IllegalStateException.class, () -> executor.execute(PointCommand.charge(userId, 500L)));
+        UserPoint result = executor.execute(PointCommand.charge(userId, 10L));
+
+        assertEquals(110L, result.point());
+        assertEquals(110L, failingTable.selectById(userId).point());
+    }
+
+    private OptimisticPointExecutor newExecutor(UserPointTable userPointTable, List<PointRule> extraRules, int maxAttempts) {
+        meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), pointMetrics);
+        pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), pointMetrics, new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 100, Duration.ZERO));
+        List<PointRule> rules = new ArrayList<>(extraRules);
+        rules.addAll(PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE)));
+        return new OptimisticPointExecutor(userPointCache, pointHistoryWriter, new PointRulePipeline(userPointCache, rules),
+                new RefCountedUserLockProvider(), pointMetrics,
+                new PointConcurrencyProperties(PointConcurrencyMode.OPTIMISTIC, maxAttempts, Duration.ofNanos(1_000), Duration.ofMillis(1)));
+    }
+
+    private void runConcurrently(int numberOfThreads, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+    }
+}
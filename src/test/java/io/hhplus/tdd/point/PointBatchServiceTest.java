@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.partition.PartitionedPointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBatchServiceTest {
+
+    @Mock
+    private PartitionedPointService pointService;
+
+    private ExecutorService executorService;
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        pointBatchService = new PointBatchService(pointService, executorService, new PointBatchProperties(4, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 명령은 요청 순서대로 처리되고 결과도 요청 순서로 반환된다")
+    void testExecutesSameUserInOrder() {
+        List<Long> executedAmounts = Collections.synchronizedList(new ArrayList<>());
+        when(pointService.chargeUserPoint(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            if (userId == 1L) {
+                executedAmounts.add(amount);
+            }
+            return new UserPoint(userId, amount, System.currentTimeMillis());
+        });
+
+        List<PointCommand> operations = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            operations.add(PointCommand.charge(1L, i));
+            operations.add(PointCommand.charge(2L + i, i));
+        }
+
+        PointBatchResponse response = pointBatchService.execute(operations);
+
+        assertEquals(40, response.succeeded());
+        assertEquals(0, response.failed());
+        for (int i = 0; i < response.results().size(); i++) {
+            assertEquals(i, response.results().get(i).index());
+            assertEquals(operations.get(i), response.results().get(i).operation());
+        }
+        for (int i = 0; i < executedAmounts.size(); i++) {
+            assertEquals(i + 1L, (long) executedAmounts.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 명령은 명령별 오류로 반환되고 나머지 명령은 계속 처리된다")
+    void testReportsItemFailures() {
+        UserPoint charged = new UserPoint(1L, 500, System.currentTimeMillis());
+        when(pointService.chargeUserPoint(1L, 500L)).thenReturn(charged);
+        when(pointService.useUserPoint(1L, 1_000L)).thenThrow(new IllegalArgumentException("포인트가 부족합니다."));
+
+        PointBatchResponse response = pointBatchService.execute(List.of(
+                PointCommand.charge(1L, 500L),
+                PointCommand.use(1L, 1_000L)
+        ));
+
+        assertEquals(1, response.succeeded());
+        assertEquals(1, response.failed());
+        assertEquals(charged, response.results().get(0).userPoint());
+        assertEquals("400", response.results().get(1).error().code());
+        assertEquals("포인트가 부족합니다.", response.results().get(1).error().message());
+    }
+
+    @Test
+    @DisplayName("비어 있거나 최대 개수를 넘는 요청은 거절된다")
+    void testRejectsInvalidRequest() {
+        List<PointCommand> tooMany = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            tooMany.add(PointCommand.charge(1L, 1L));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> pointBatchService.execute(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> pointBatchService.execute(tooMany));
+        verifyNoInteractions(pointService);
+    }
+}
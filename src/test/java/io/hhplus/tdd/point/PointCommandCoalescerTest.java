@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.PointHistoryWriterProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointCommandCoalescerTest {
+
+    private NoThrottleUserPointTable userPointTable;
+    private UserPointCache userPointCache;
+    private PointHistoryStore pointHistoryStore;
+    private PointCommandCoalescer pointCommandCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        // 쓰기에 지연을 주어 처리 중에 다음 명령들이 쌓이도록 한다.
+        userPointTable = new NoThrottleUserPointTable(20);
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), pointMetrics);
+        pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), pointMetrics, new PointHistoryStoreProperties(PointHistoryStorage.TABLE));
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 100, Duration.ZERO));
+        PointRulePipeline pointRulePipeline = new PointRulePipeline(userPointCache,
+                PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE)));
+        pointCommandCoalescer = new PointCommandCoalescer(userPointCache, pointHistoryWriter, pointRulePipeline,
+                new RefCountedUserLockProvider(), new PointCoalescingProperties(true, 100));
+    }
+
+    @Test
+    @DisplayName("같은 유저의 동시 충전은 묶어서 한 번에 반영된다")
+    void testConcurrentChargesAreCoalesced() throws InterruptedException {
+        int numberOfThreads = 50;
+        long userId = 1L;
+        long chargeAmount = 100L;
+
+        runConcurrently(numberOfThreads, () -> pointCommandCoalescer.execute(PointCommand.charge(userId, chargeAmount)));
+
+        assertEquals(numberOfThreads * chargeAmount, userPointCache.selectById(userId).point());
+        assertTrue(userPointTable.writeCount() < numberOfThreads, "잔액 갱신 횟수는 명령 수보다 적어야 합니다.");
+        assertEquals(numberOfThreads, pointHistoryStore.selectAllByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("묶인 명령도 각자 검증되어 잔액 부족 명령만 실패한다")
+    void testEachCommandIsValidatedSeparately() throws InterruptedException {
+        long userId = 1L;
+        pointCommandCoalescer.execute(PointCommand.charge(userId, 1_000L));
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(20, () -> {
+            try {
+                pointCommandCoalescer.execute(PointCommand.use(userId, 100L));
+            } catch (IllegalArgumentException e) {
+                assertEquals("포인트가 부족합니다.", e.getMessage());
+                failures.incrementAndGet();
+            }
+        });
+
+        assertEquals(10, failures.get());
+        assertEquals(0L, userPointCache.selectById(userId).point());
+        assertEquals(11, pointHistoryStore.selectAllByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("명령마다 자신이 반영된 시점의 잔액을 응답받는다")
+    void testEachCommandGetsItsOwnResult() {
+        long userId = 1L;
+
+        UserPoint charged = pointCommandCoalescer.execute(PointCommand.charge(userId, 500L));
+        UserPoint used = pointCommandCoalescer.execute(PointCommand.use(userId, 200L));
+
+        assertEquals(500L, charged.point());
+        assertEquals(300L, used.point());
+    }
+
+    @Test
+    @DisplayName("내역에는 잔액이 갱신된 시각이 기록된다")
+    void testHistoryUsesUpdatedMillis() {
+        long userId = 1L;
+
+        UserPoint charged = pointCommandCoalescer.execute(PointCommand.charge(userId, 500L));
+
+        assertEquals(charged.updateMillis(), pointHistoryStore.selectAllByUserId(userId).get(0).updateMillis());
+    }
+
+    @Test
+    @DisplayName("drainer 는 자기 명령이 든 배치까지만 처리하고, 남은 명령은 기다리던 스레드가 처리한다")
+    void testDrainerHandsOffRemainingCommands() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> writers = Collections.synchronizedList(new ArrayList<>());
+        NoThrottleUserPointTable blockingTable = new NoThrottleUserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                writers.add(Thread.currentThread().getName());
+                if (entered.getCount() > 0) {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        UserPointCache cache = new UserPointCache(blockingTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)), pointMetrics);
+        PointRulePipeline pointRulePipeline = new PointRulePipeline(cache,
+                PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE)));
+        PointCommandCoalescer coalescer = new PointCommandCoalescer(cache,
+                new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(1_000, 100, Duration.ZERO)), pointRulePipeline,
+                new RefCountedUserLockProvider(), new PointCoalescingProperties(true, 100));
+        long userId = 1L;
+
+        Thread first = new Thread(() -> coalescer.execute(PointCommand.charge(userId, 100L)), "first");
+        first.start();
+        assertTrue(entered.await(1, TimeUnit.SECONDS));
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread waiter = new Thread(() -> coalescer.execute(PointCommand.charge(userId, 100L)), "waiter-" + i);
+            waiters.add(waiter);
+            waiter.start();
+        }
+        // 세 명령이 모두 mailbox 에 쌓여 기다릴 때까지
+        for (Thread waiter : waiters) {
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        first.join();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        assertEquals(400L, cache.selectById(userId).point());
+        assertEquals(2, writers.size());
+        assertEquals("first", writers.get(0));
+        assertTrue(writers.get(1).startsWith("waiter-"));
+    }
+
+    private void runConcurrently(int numberOfThreads, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+    }
+}
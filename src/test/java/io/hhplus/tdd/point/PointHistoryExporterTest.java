@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStoreProperties;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryExporterTest {
+
+    private PointHistoryStore pointHistoryStore;
+    private PointHistoryExporter pointHistoryExporter;
+
+    @BeforeEach
+    void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        pointHistoryStore = new PointHistoryStore(new NoThrottlePointHistoryTable(), pointMetrics, new PointHistoryStoreProperties(PointHistoryStorage.COLUMNAR));
+        UserPointCache userPointCache = new UserPointCache(new NoThrottleUserPointTable(), new UserPointCacheProperties(100, Duration.ofMinutes(1)), pointMetrics);
+        // chunk 를 작게 두어 여러 번 나눠 쓰는 경로를 확인
+        pointHistoryExporter = new PointHistoryExporter(pointHistoryStore, new UserValidate(userPointCache), new PointHistoryExportProperties(2));
+    }
+
+    @Test
+    @DisplayName("유저 내역을 id 순서대로 한 줄에 하나씩 쓰고 chunk 마다 flush 한다")
+    void testUserHistories() throws IOException {
+        pointHistoryStore.insert(1L, 100, TransactionType.CHARGE, 10L);
+        pointHistoryStore.insert(2L, 200, TransactionType.CHARGE, 20L);
+        pointHistoryStore.insert(1L, 30, TransactionType.USE, 30L);
+        pointHistoryStore.insert(1L, 40, TransactionType.CHARGE, 40L);
+        CountingOutputStream out = new CountingOutputStream();
+
+        pointHistoryExporter.userHistories(1L).writeTo(out);
+
+        assertEquals(List.of(
+                "{\"id\":1,\"userId\":1,\"amount\":100,\"type\":\"CHARGE\",\"updateMillis\":10}",
+                "{\"id\":3,\"userId\":1,\"amount\":30,\"type\":\"USE\",\"updateMillis\":30}",
+                "{\"id\":4,\"userId\":1,\"amount\":40,\"type\":\"CHARGE\",\"updateMillis\":40}"
+        ), out.lines());
+        assertTrue(out.flushes >= 2);
+    }
+
+    @Test
+    @DisplayName("전체 내보내기는 시작 시점까지 기록된 모든 유저의 내역을 저장 순서대로 쓴다")
+    void testAllHistories() throws IOException {
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryStore.insert(i, i * 10, TransactionType.CHARGE, i);
+        }
+        CountingOutputStream out = new CountingOutputStream();
+
+        pointHistoryExporter.allHistories().writeTo(out);
+
+        List<String> lines = out.lines();
+        assertEquals(5, lines.size());
+        assertEquals("{\"id\":5,\"userId\":5,\"amount\":50,\"type\":\"CHARGE\",\"updateMillis\":5}", lines.get(4));
+    }
+
+    @Test
+    @DisplayName("내역이 없으면 빈 응답, 잘못된 유저는 응답을 시작하기 전에 예외가 발생한다")
+    void testEmptyAndInvalidUser() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        pointHistoryExporter.userHistories(7L).writeTo(out);
+        assertTrue(out.lines().isEmpty());
+
+        PointValidationException exception = assertThrows(PointValidationException.class, () -> pointHistoryExporter.userHistories(0L));
+        assertEquals(ValidationFailureReason.INVALID_USER_ID, exception.reason());
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        List<String> lines() {
+            String text = buffer.toString(StandardCharsets.UTF_8);
+            return text.isEmpty() ? List.of() : List.of(text.split("\n"));
+        }
+    }
+}
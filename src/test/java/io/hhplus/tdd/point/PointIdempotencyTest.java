@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointIdempotencyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 처리하지 않고 처음 결과를 돌려준다")
+    void testReplayReturnsStoredResult() {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1));
+        PointCommand command = PointCommand.charge(1L, 100L);
+
+        UserPoint first = idempotency.execute("key-1", command, () -> charge(100L));
+        UserPoint retried = idempotency.execute("key-1", command, () -> charge(200L));
+
+        assertEquals(first, retried);
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.find("point.idempotency.replays").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 명령을 보내면 거절한다")
+    void testKeyReusedWithDifferentCommand() {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1));
+        idempotency.execute("key-1", PointCommand.charge(1L, 100L), () -> charge(100L));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotency.execute("key-1", PointCommand.charge(1L, 500L), () -> charge(500L)));
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotency.execute("key-1", PointCommand.use(1L, 100L), () -> charge(100L)));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 들어온 요청은 처음 요청이 끝날 때까지 기다렸다가 같은 결과를 받는다")
+    void testConcurrentDuplicateWaitsForFirst() throws Exception {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1));
+        PointCommand command = PointCommand.charge(1L, 100L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> idempotency.execute("key-1", command, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return charge(100L);
+        }));
+        started.await();
+        CompletableFuture<UserPoint> duplicate = CompletableFuture.supplyAsync(() -> idempotency.execute("key-1", command, () -> charge(100L)));
+        while (meterRegistry.find("point.idempotency.replays").counter().count() < 1) {
+            Thread.onSpinWait();
+        }
+        assertFalse(duplicate.isDone());
+
+        release.countDown();
+
+        assertEquals(first.get(), duplicate.get());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 키는 보관하지 않아 재시도하면 새로 처리한다")
+    void testFailureIsNotStored() {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1));
+        PointCommand command = PointCommand.use(1L, 100L);
+
+        assertThrows(IllegalArgumentException.class, () -> idempotency.execute("key-1", command, () -> {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        }));
+        assertEquals(0, idempotency.size());
+
+        idempotency.execute("key-1", command, () -> charge(100L));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("처리 중 Error 가 나도 키를 지워 재시도하면 새로 처리한다")
+    void testErrorIsNotStored() {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1));
+        PointCommand command = PointCommand.charge(1L, 100L);
+
+        assertThrows(StackOverflowError.class, () -> idempotency.execute("key-1", command, () -> {
+            throw new StackOverflowError();
+        }));
+        assertEquals(0, idempotency.size());
+
+        idempotency.execute("key-1", command, () -> charge(100L));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키를 기다리다 waitTimeout 이 지나면 409 예외로 끝난다")
+    void testDuplicateWaitIsBounded() throws Exception {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMinutes(1), Duration.ofMillis(50));
+        PointCommand command = PointCommand.charge(1L, 100L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> idempotency.execute("key-1", command, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return charge(100L);
+        }));
+        started.await();
+
+        assertThrows(IdempotencyKeyInProgressException.class, () -> idempotency.execute("key-1", command, () -> charge(100L)));
+
+        release.countDown();
+        first.get();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키와 키가 없는 요청은 매번 처리한다")
+    void testExpiredKeyAndMissingKey() throws InterruptedException {
+        PointIdempotency idempotency = newIdempotency(Duration.ofMillis(20));
+        PointCommand command = PointCommand.charge(1L, 100L);
+
+        idempotency.execute("key-1", command, () -> charge(100L));
+        Thread.sleep(40);
+        idempotency.execute("key-1", command, () -> charge(100L));
+        idempotency.execute(null, command, () -> charge(100L));
+        idempotency.execute(null, command, () -> charge(100L));
+
+        assertEquals(4, executions.get());
+        assertThrows(IllegalArgumentException.class, () -> idempotency.execute(" ", command, () -> charge(100L)));
+    }
+
+    private UserPoint charge(long amount) {
+        executions.incrementAndGet();
+        return new UserPoint(1L, amount, System.currentTimeMillis());
+    }
+
+    private PointIdempotency newIdempotency(Duration ttl) {
+        return newIdempotency(ttl, Duration.ofSeconds(10));
+    }
+
+    private PointIdempotency newIdempotency(Duration ttl, Duration waitTimeout) {
+        return new PointIdempotency(new PointIdempotencyProperties(true, 1_000, ttl, waitTimeout), new PointMetrics(meterRegistry));
+    }
+}
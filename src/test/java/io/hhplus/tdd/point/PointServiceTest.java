@@ -1,7 +1,15 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.UserPointTable;
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.admission.AdmissionProperties;
+import io.hhplus.tdd.admission.UserAdmission;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.rule.PointRulePipeline;
+import io.hhplus.tdd.point.rule.PointRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,8 +19,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,22 +37,39 @@ class PointServiceTest {
     private static final Logger log = LoggerFactory.getLogger(PointServiceTest.class);
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointCache userPointCache;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryStore;
+
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
 
     @Mock
     private UserValidate userValidate;
 
     @Mock
-    private PointValidate pointValidate;
+    private PointCommandCoalescer pointCommandCoalescer;
+
+    @Mock
+    private OptimisticPointExecutor optimisticPointExecutor;
+
+    @Mock
+    private LockFreePointExecutor lockFreePointExecutor;
 
     private PointService pointService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        pointService = new PointService(userPointTable, pointHistoryTable, userValidate, pointValidate);
+        meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        // 검증 규칙은 실제 파이프라인을 사용하고, 잔액 조회/갱신만 mock 캐시로 확인한다.
+        PointRulePipeline pointRulePipeline = new PointRulePipeline(userPointCache,
+                PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, Long.MAX_VALUE)));
+        pointService = new PointService(userPointCache, pointHistoryStore, pointHistoryWriter, userValidate, pointRulePipeline, new RefCountedUserLockProvider(), pointCommandCoalescer,
+                optimisticPointExecutor, lockFreePointExecutor, new UserAdmission(new AdmissionProperties(false, 32, 1_000, 0, 10), pointMetrics), Runnable::run, new PointAsyncProperties(1, 1, Duration.ofSeconds(5)), pointMetrics);
 //        log.info("PointService 테스트 설정 완료");
     }
 
@@ -53,14 +80,14 @@ class PointServiceTest {
         UserPoint expectedPoint = new UserPoint(userId, 1000, System.currentTimeMillis());
 
         log.info("사용자 포인트 조회 테스트 시작: userId={}", userId);
-        when(userPointTable.selectById(userId)).thenReturn(expectedPoint);
+        when(userValidate.validateUser(userId)).thenReturn(expectedPoint);
 
         UserPoint result = pointService.getUserPoint(userId);
 
         log.info("조회된 사용자 포인트: {}", result);
         assertEquals(expectedPoint, result);
         verify(userValidate).validateUser(userId);
-        verify(userPointTable).selectById(userId);
+        verifyNoInteractions(userPointCache);
         log.info("사용자 포인트 조회 테스트 완료");
     }
 
@@ -74,17 +101,81 @@ class PointServiceTest {
         );
 
         log.info("포인트 내역 조회 테스트 시작: userId={}", userId);
-        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(expectedHistories);
+        when(pointHistoryStore.selectAllByUserId(userId)).thenReturn(expectedHistories);
 
         List<PointHistory> result = pointService.getPointHistories(userId);
 
         log.info("조회된 포인트 내역: {}", result);
         assertEquals(expectedHistories, result);
         verify(userValidate).validateUser(userId);
-        verify(pointHistoryTable).selectAllByUserId(userId);
+        verify(pointHistoryStore).selectAllByUserId(userId);
         log.info("포인트 내역 조회 테스트 완료");
     }
 
+    @Test
+    @DisplayName("포인트 내역 페이지 조회 테스트")
+    void testGetPointHistoriesPage() {
+        long userId = 1L;
+        PointHistoryPage expectedPage = new PointHistoryPage(
+                List.of(new PointHistory(3L, userId, 500, TransactionType.CHARGE, System.currentTimeMillis())),
+                3L
+        );
+
+        when(pointHistoryStore.selectByUserId(userId, 2L, 1)).thenReturn(expectedPage);
+
+        PointHistoryPage result = pointService.getPointHistories(userId, 2L, 1);
+
+        assertEquals(expectedPage, result);
+        verify(userValidate).validateUser(userId);
+        verify(pointHistoryStore).selectByUserId(userId, 2L, 1);
+    }
+
+    @Test
+    @DisplayName("포인트 요약은 검증에서 읽은 잔액과 내역 합계를 합쳐 반환한다")
+    void testGetPointSummary() {
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 200L, 10L);
+        PointHistory recent = new PointHistory(2L, userId, 300, TransactionType.USE, 9L);
+        when(userValidate.validateUser(userId)).thenReturn(userPoint);
+        when(pointHistoryStore.summarize(userId, 1)).thenReturn(new PointHistorySummary(2, 500L, 300L, 9L, List.of(recent)));
+
+        PointSummary result = pointService.getPointSummary(userId, 1);
+
+        assertEquals(new PointSummary(userId, 200L, 10L, 2, 500L, 300L, 9L, List.of(recent)), result);
+        verify(userValidate, times(1)).validateUser(userId);
+        verifyNoInteractions(userPointCache);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 개수로 내역 페이지 조회 시 예외 발생")
+    void testGetPointHistoriesPageWithInvalidLimit() {
+        long userId = 1L;
+
+        assertThrows(IllegalArgumentException.class, () -> pointService.getPointHistories(userId, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> pointService.getPointHistories(userId, null, PointService.MAX_HISTORY_PAGE_SIZE + 1));
+        verifyNoInteractions(pointHistoryStore);
+    }
+
+    @Test
+    @DisplayName("기간 조건 내역 조회는 시각 인덱스를 사용하고, from 이 to 보다 늦으면 예외 발생")
+    void testGetPointHistoriesByTime() {
+        long userId = 1L;
+        PointHistoryPage expectedPage = new PointHistoryPage(
+                List.of(new PointHistory(3L, userId, 500, TransactionType.USE, 20L)),
+                null
+        );
+        when(pointHistoryStore.selectByUserIdAndTime(userId, 10L, 30L, TransactionType.USE, 0L, 100)).thenReturn(expectedPage);
+
+        PointHistoryPage result = pointService.getPointHistories(userId, new PointHistoryFilter(10L, 30L, TransactionType.USE), null, 100);
+
+        assertEquals(expectedPage, result);
+        verify(pointHistoryStore, never()).selectByUserId(anyLong(), anyLong(), anyInt());
+        assertThrows(IllegalArgumentException.class,
+                () -> pointService.getPointHistories(userId, new PointHistoryFilter(30L, 30L, null), null, 100));
+        assertThrows(IllegalArgumentException.class,
+                () -> pointService.getPointHistoryTotals(userId, new PointHistoryFilter(40L, 30L, null)));
+    }
+
     @Test
     @DisplayName("포인트 충전 테스트")
     void testChargeUserPoint() {
@@ -93,16 +184,17 @@ class PointServiceTest {
         UserPoint updatedPoint = new UserPoint(userId, 1500, System.currentTimeMillis());
 
         log.info("포인트 충전 테스트 시작: userId={}, chargeAmount={}", userId, amount);
-        when(userPointTable.insertOrUpdate(userId, amount)).thenReturn(updatedPoint);
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
+        when(userPointCache.insertOrUpdate(userId, 1500L)).thenReturn(updatedPoint);
 
         UserPoint result = pointService.chargeUserPoint(userId, amount);
 
         log.info("충전 후 사용자 포인트: {}", result);
         assertEquals(updatedPoint, result);
-        verify(userValidate).validateUser(userId);
-        verify(pointValidate).validateChargeAmount(amount);
-        verify(userPointTable).insertOrUpdate(userId, amount);
-        verify(pointHistoryTable).insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
+        // 잔액은 한 번만 읽고, 읽은 잔액에 충전 금액을 더한 값을 쓴다.
+        verify(userPointCache, times(1)).selectById(userId);
+        verify(userPointCache).insertOrUpdate(userId, 1500L);
+        verify(pointHistoryWriter).enqueue(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
         log.info("포인트 충전 테스트 완료");
     }
 
@@ -117,10 +209,11 @@ class PointServiceTest {
         ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
         CountDownLatch latch = new CountDownLatch(numberOfThreads);
 
-        when(userPointTable.insertOrUpdate(eq(userId), anyLong())).thenAnswer(invocation -> {
-            long amount = invocation.getArgument(1);
-            long newTotal = totalCharged.addAndGet(amount);
-            return new UserPoint(userId, newTotal, System.currentTimeMillis());
+        when(userPointCache.selectById(userId)).thenAnswer(invocation -> new UserPoint(userId, totalCharged.get(), System.currentTimeMillis()));
+        when(userPointCache.insertOrUpdate(eq(userId), anyLong())).thenAnswer(invocation -> {
+            long balance = invocation.getArgument(1);
+            totalCharged.set(balance);
+            return new UserPoint(userId, balance, System.currentTimeMillis());
         });
 
 
@@ -143,15 +236,77 @@ class PointServiceTest {
         long expectedTotalCharge = numberOfThreads * chargeAmount;
         assertEquals(expectedTotalCharge, totalCharged.get(), "총 충전된 금액이 예상과 일치해야 합니다.");
 
-        verify(userValidate, times(numberOfThreads)).validateUser(userId);
-        verify(pointValidate, times(numberOfThreads)).validateChargeAmount(chargeAmount);
-        verify(userPointTable, times(numberOfThreads)).insertOrUpdate(eq(userId), anyLong());
-        verify(pointHistoryTable, times(numberOfThreads)).insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+        verify(userPointCache, times(numberOfThreads)).selectById(userId);
+        verify(userPointCache, times(numberOfThreads)).insertOrUpdate(eq(userId), anyLong());
+        verify(pointHistoryWriter, times(numberOfThreads)).enqueue(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
 
         log.info("동시성 테스트 완료: 총 충전 금액 = {}", totalCharged.get());
     }
 
 
+    @Test
+    @DisplayName("병합 모드에서는 충전 명령을 병합기로 넘긴다")
+    void testChargeUserPointWithCoalescing() {
+        long userId = 1L;
+        long amount = 500L;
+        UserPoint updatedPoint = new UserPoint(userId, 1500, System.currentTimeMillis());
+
+        when(pointCommandCoalescer.isEnabled()).thenReturn(true);
+        when(pointCommandCoalescer.execute(PointCommand.charge(userId, amount))).thenReturn(updatedPoint);
+
+        UserPoint result = pointService.chargeUserPoint(userId, amount);
+
+        assertEquals(updatedPoint, result);
+        verify(pointCommandCoalescer).execute(PointCommand.charge(userId, amount));
+        verifyNoInteractions(userPointCache, pointHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서는 사용 명령을 낙관적 실행기로 넘긴다")
+    void testUseUserPointWithOptimisticMode() {
+        long userId = 1L;
+        long amount = 300L;
+        UserPoint updatedPoint = new UserPoint(userId, 700, System.currentTimeMillis());
+
+        when(optimisticPointExecutor.isEnabled()).thenReturn(true);
+        when(optimisticPointExecutor.execute(PointCommand.use(userId, amount))).thenReturn(updatedPoint);
+
+        UserPoint result = pointService.useUserPoint(userId, amount);
+
+        assertEquals(updatedPoint, result);
+        verify(optimisticPointExecutor).execute(PointCommand.use(userId, amount));
+        verifyNoInteractions(userPointCache, pointHistoryWriter);
+    }
+
+    @Test
+    @DisplayName("비동기 포인트 충전 테스트")
+    void testChargeUserPointAsync() {
+        long userId = 1L;
+        long amount = 500L;
+        UserPoint updatedPoint = new UserPoint(userId, 1500, System.currentTimeMillis());
+
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
+        when(userPointCache.insertOrUpdate(userId, 1500L)).thenReturn(updatedPoint);
+
+        UserPoint result = pointService.chargeUserPointAsync(userId, amount).join();
+
+        assertEquals(updatedPoint, result);
+        verify(pointHistoryWriter).enqueue(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @Test
+    @DisplayName("비동기 포인트 사용 실패 시 예외로 완료된다")
+    void testUseUserPointAsyncWithInsufficientBalance() {
+        long userId = 1L;
+        long amount = 2000L;
+
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> pointService.useUserPointAsync(userId, amount).join());
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
     @Test
     @DisplayName("포인트 사용 테스트")
     void testUseUserPoint() {
@@ -160,16 +315,16 @@ class PointServiceTest {
         UserPoint updatedPoint = new UserPoint(userId, 700, System.currentTimeMillis());
 
         log.info("포인트 사용 테스트 시작: userId={}, useAmount={}", userId, amount);
-        when(userPointTable.insertOrUpdate(userId, -amount)).thenReturn(updatedPoint);
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
+        when(userPointCache.insertOrUpdate(userId, 700L)).thenReturn(updatedPoint);
 
         UserPoint result = pointService.useUserPoint(userId, amount);
 
         log.info("사용 후 사용자 포인트: {}", result);
         assertEquals(updatedPoint, result);
-        verify(userValidate).validateUser(userId);
-        verify(pointValidate).validateUseAmount(userId, amount);
-        verify(userPointTable).insertOrUpdate(userId, -amount);
-        verify(pointHistoryTable).insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong());
+        verify(userPointCache, times(1)).selectById(userId);
+        verify(userPointCache).insertOrUpdate(userId, 700L);
+        verify(pointHistoryWriter).enqueue(eq(userId), eq(amount), eq(TransactionType.USE), anyLong());
         log.info("포인트 사용 테스트 완료");
     }
 
@@ -196,8 +351,7 @@ class PointServiceTest {
         long invalidAmount = -500L;
 
         log.info("잘못된 충전 금액 테스트 시작: userId={}, invalidAmount={}", userId, invalidAmount);
-        doThrow(new IllegalArgumentException("충전 금액은 0보다 커야 합니다."))
-                .when(pointValidate).validateChargeAmount(invalidAmount);
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> pointService.chargeUserPoint(userId, invalidAmount));
         log.error("예외 발생: {}", exception.getMessage());
@@ -213,8 +367,7 @@ class PointServiceTest {
         long amount = 2000L;
 
         log.info("잔액 부족 테스트 시작: userId={}, amount={}", userId, amount);
-        doThrow(new IllegalArgumentException("포인트가 부족합니다."))
-                .when(pointValidate).validateUseAmount(userId, amount);
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> pointService.useUserPoint(userId, amount));
         log.error("예외 발생: {}", exception.getMessage());
@@ -222,4 +375,18 @@ class PointServiceTest {
         assertEquals("포인트가 부족합니다.", exception.getMessage());
         log.info("잔액 부족 테스트 완료");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검증 실패는 사유별로 집계되고, 실패한 요청도 처리 시간에 포함된다")
+    void testValidationFailureIsCountedByReason() {
+        long userId = 1L;
+        long amount = 2000L;
+        when(userPointCache.selectById(userId)).thenReturn(new UserPoint(userId, 1000, System.currentTimeMillis()));
+
+        assertThrows(PointValidationException.class, () -> pointService.useUserPoint(userId, amount));
+
+        assertEquals(1.0, meterRegistry.find("point.validation.failures").tag("reason", "insufficient_balance").counter().count());
+        assertEquals(0.0, meterRegistry.find("point.validation.failures").tag("reason", "user_not_found").counter().count());
+        assertEquals(1L, meterRegistry.find("point.operation").tag("operation", "use").timer().count());
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSerialExecutorTest {
+
+    @Test
+    @DisplayName("같은 유저의 작업은 제출 순서대로 실행된다")
+    void testSameUserTasksRunInSubmissionOrder() {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        UserSerialExecutor userSerialExecutor = new UserSerialExecutor(executorService);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int order = i;
+            futures.add(userSerialExecutor.submit(1L, () -> {
+                executed.add(order);
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        executorService.shutdown();
+
+        for (int i = 0; i < executed.size(); i++) {
+            assertEquals(i, (int) executed.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("앞선 작업이 실패해도 다음 작업은 실행되고, 끝나면 체인이 정리된다")
+    void testContinuesAfterFailure() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        UserSerialExecutor userSerialExecutor = new UserSerialExecutor(executorService);
+
+        CompletableFuture<Integer> failed = userSerialExecutor.submit(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        });
+        CompletableFuture<Integer> next = userSerialExecutor.submit(1L, () -> 2);
+
+        assertEquals(2, (int) next.join());
+        assertTrue(failed.isCompletedExceptionally());
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(0, userSerialExecutor.pendingUsers());
+    }
+
+    @Test
+    @DisplayName("시간이 초과되면 시작하지 못한 작업은 실행하지 않고 TimeoutException, 이미 시작한 작업은 끝까지 실행하고 PointAsyncTimeoutException")
+    void testTimeoutCancelsOnlyWaitingTasks() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        UserSerialExecutor userSerialExecutor = new UserSerialExecutor(executorService);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runningExecuted = new AtomicInteger();
+        AtomicInteger waitingExecuted = new AtomicInteger();
+
+        CompletableFuture<Integer> running = userSerialExecutor.submit(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return runningExecuted.incrementAndGet();
+        }, 50);
+        CompletableFuture<Integer> waiting = userSerialExecutor.submit(1L, waitingExecuted::incrementAndGet, 50);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        CompletionException runningTimeout = assertThrows(CompletionException.class, running::join);
+        CompletionException waitingTimeout = assertThrows(CompletionException.class, waiting::join);
+        release.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(PointAsyncTimeoutException.class, runningTimeout.getCause());
+        assertInstanceOf(TimeoutException.class, waitingTimeout.getCause());
+        assertEquals(1, runningExecuted.get());
+        assertEquals(0, waitingExecuted.get());
+        assertEquals(0, userSerialExecutor.pendingUsers());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
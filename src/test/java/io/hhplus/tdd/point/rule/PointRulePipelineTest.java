@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.rule;
+
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ValidationFailureReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointRulePipelineTest {
+
+    private NoThrottleUserPointTable userPointTable;
+    private PointRulePipeline pointRulePipeline;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new NoThrottleUserPointTable();
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(100, Duration.ofMinutes(1)),
+                new PointMetrics(new SimpleMeterRegistry()));
+        pointRulePipeline = new PointRulePipeline(userPointCache,
+                PointRulePipeline.defaultRules(new PointRuleProperties(10_000_000, 10_000_000, 50_000_000)));
+    }
+
+    @Test
+    @DisplayName("새 잔액은 스냅샷 잔액에 명령을 적용한 값이다")
+    void testEvaluateAppliesCommandToSnapshot() {
+        UserPoint snapshot = new UserPoint(1L, 1_000L, 0L);
+
+        assertEquals(1_500L, pointRulePipeline.evaluate(PointCommand.charge(1L, 500L), snapshot));
+        assertEquals(700L, pointRulePipeline.evaluate(PointCommand.use(1L, 300L), snapshot));
+    }
+
+    @Test
+    @DisplayName("규칙은 순서대로 검증하고 처음 실패한 사유로 거절한다")
+    void testRulesAreEvaluatedInOrder() {
+        PointValidationException notFound = assertThrows(PointValidationException.class,
+                () -> pointRulePipeline.evaluate(PointCommand.use(1L, -1L), null));
+        assertEquals(ValidationFailureReason.USER_NOT_FOUND, notFound.reason());
+
+        PointValidationException invalidAmount = assertThrows(PointValidationException.class,
+                () -> pointRulePipeline.evaluate(PointCommand.use(1L, -1L), new UserPoint(1L, 0L, 0L)));
+        assertEquals(ValidationFailureReason.INVALID_AMOUNT, invalidAmount.reason());
+
+        PointValidationException insufficient = assertThrows(PointValidationException.class,
+                () -> pointRulePipeline.evaluate(PointCommand.use(1L, 1_001L), new UserPoint(1L, 1_000L, 0L)));
+        assertEquals(ValidationFailureReason.INSUFFICIENT_BALANCE, insufficient.reason());
+    }
+
+    @Test
+    @DisplayName("충전 후 잔액이 상한을 넘으면 거절한다")
+    void testMaxBalance() {
+        UserPoint snapshot = new UserPoint(1L, 45_000_000L, 0L);
+
+        assertEquals(50_000_000L, pointRulePipeline.evaluate(PointCommand.charge(1L, 5_000_000L), snapshot));
+        PointValidationException exception = assertThrows(PointValidationException.class,
+                () -> pointRulePipeline.evaluate(PointCommand.charge(1L, 5_000_001L), snapshot));
+        assertEquals(ValidationFailureReason.MAX_BALANCE_EXCEEDED, exception.reason());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 읽고, 잘못된 userId 는 읽지 않고 거절한다")
+    void testLoadSnapshotReadsOnce() {
+        UserPoint snapshot = pointRulePipeline.loadSnapshot(1L);
+        pointRulePipeline.evaluate(PointCommand.charge(1L, 500L), snapshot);
+        assertEquals(1, userPointTable.selectCount());
+
+        assertThrows(PointValidationException.class, () -> pointRulePipeline.loadSnapshot(0L));
+        assertEquals(1, userPointTable.selectCount());
+    }
+}